@@ -2,6 +2,7 @@ plugins {
     `java-library`
     `maven-publish`
     signing
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 description = "This Testcontainers module allows provisioning the WireMock server as a standalone container within your unit tests, based on WireMock Docker"
@@ -52,6 +53,17 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// JMH benchmarks from src/jmh/java: ./gradlew jmh -Pjmh.includes=ConfigureBenchmark
+jmh {
+    jmhVersion = "1.37"
+    // The end-to-end startup benchmarks need Docker, so they run only when included explicitly
+    includes = listOf(project.findProperty("jmh.includes") as String? ?: """org\.wiremock\.integrations\.testcontainers\.\w+Benchmark""")
+    // Reports gc.alloc.rate.norm, i.e. bytes allocated per operation
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    project.findProperty("jmh.result")?.let { resultsFile = file(it) }
+}
+
 tasks.register<Copy>("copyTestWiremockExtensions") {
     from(testWiremockExtension.resolve())
     into(layout.projectDirectory.dir("target").dir("test-wiremock-extension"))
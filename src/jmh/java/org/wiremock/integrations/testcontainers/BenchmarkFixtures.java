@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Generates fixtures for the benchmarks.
+ */
+/*package*/ final class BenchmarkFixtures {
+
+    /** Image used by the benchmarks, the configuration path never pulls it */
+    static final String IMAGE = "wiremock/wiremock:3.13.2-3";
+
+    private BenchmarkFixtures() {
+        // Utility class
+    }
+
+    static String stub(int index) {
+        return "{\n" +
+                "  \"request\": {\n" +
+                "    \"method\": \"GET\",\n" +
+                "    \"url\": \"/benchmark/" + index + "\"\n" +
+                "  },\n" +
+                "  \"response\": {\n" +
+                "    \"status\": 200,\n" +
+                "    \"headers\": { \"Content-Type\": \"application/json\" },\n" +
+                "    \"jsonBody\": { \"index\": " + index + ", \"message\": \"Hello, world!\" }\n" +
+                "  }\n" +
+                "}\n";
+    }
+
+    /**
+     * Creates a root directory with {@code mappings} and {@code __files} subdirectories.
+     * @param count Number of stubs, each one has a response body file
+     * @return Root directory
+     */
+    static Path rootDirectory(int count) {
+        try {
+            Path root = Files.createTempDirectory("wiremock-benchmark-root");
+            Path mappings = Files.createDirectories(root.resolve("mappings"));
+            Path files = Files.createDirectories(root.resolve("__files"));
+            for (int i = 0; i < count; i++) {
+                // Spread the fixtures over subdirectories, as large projects do
+                Path dir = Files.createDirectories(mappings.resolve("group-" + i % 100));
+                Files.write(dir.resolve("stub-" + i + ".json"), stub(i).getBytes(StandardCharsets.UTF_8));
+                Files.write(files.resolve("body-" + i + ".txt"), ("Body " + i).getBytes(StandardCharsets.UTF_8));
+            }
+            return root;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a directory with distinct placeholder JARs.
+     * @param count Number of JARs
+     * @return Directory with JARs
+     */
+    static Path jarsDirectory(int count) {
+        try {
+            Path dir = Files.createTempDirectory("wiremock-benchmark-jars");
+            for (int i = 0; i < count; i++) {
+                Files.write(dir.resolve("extension-" + i + ".jar"), ("PK extension " + i).getBytes(StandardCharsets.UTF_8));
+            }
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void delete(Path path) {
+        if (path == null) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(path)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WireMockContainer#configure()}: collecting the container files and assembling the CLI arguments.
+ * Every invocation configures a fresh container, so the setup is excluded from the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigureBenchmark {
+
+    private static final List<String> EXTENSIONS = Arrays.asList(
+            "org.wiremock.webhooks.Webhooks",
+            "com.ninecookies.wiremock.extensions.JsonBodyTransformer");
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int stubs;
+
+    private String[] jsons;
+    private WireMockContainer container;
+
+    @Setup(Level.Trial)
+    public void createStubs() {
+        jsons = new String[stubs];
+        for (int i = 0; i < stubs; i++) {
+            jsons[i] = BenchmarkFixtures.stub(i);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createContainer() {
+        container = new WireMockContainer(BenchmarkFixtures.IMAGE).withRootDir(null);
+        for (int i = 0; i < stubs; i++) {
+            container.withMappingFromJSON("stub-" + i, jsons[i]);
+        }
+        EXTENSIONS.forEach(container::withExtension);
+        container.withCliArg("--verbose");
+    }
+
+    @Benchmark
+    public String[] configure() {
+        container.configure();
+        return container.getCommandParts();
+    }
+
+    @Benchmark
+    public List<ContainerFile> collectContainerFiles() {
+        return container.collectContainerFiles();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WireMockContainer#withExtensions(Collection, Path)} for a directory with many JARs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExtensionsBenchmark {
+
+    private static final Collection<String> CLASS_NAMES = Collections.singletonList("org.wiremock.webhooks.Webhooks");
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int jars;
+
+    private Path jarsDirectory;
+
+    @Setup(Level.Trial)
+    public void createJars() {
+        jarsDirectory = BenchmarkFixtures.jarsDirectory(jars);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJars() {
+        BenchmarkFixtures.delete(jarsDirectory);
+    }
+
+    @Benchmark
+    public List<ContainerFile> withExtensions() {
+        WireMockContainer container = new WireMockContainer(BenchmarkFixtures.IMAGE).withRootDir(null)
+                .withExtensions(CLASS_NAMES, jarsDirectory);
+        return container.collectContainerFiles();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks registration of mapping stubs with {@link WireMockContainer#withMappingFromJSON(String, String)}
+ * and {@link WireMockContainer#withMappingFromResource(String, URL)}.
+ * Each operation registers all stubs in a new container.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingRegistrationBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int stubs;
+
+    private String[] jsons;
+    private URL[] urls;
+    private Path rootDir;
+
+    @Setup(Level.Trial)
+    public void createStubs() throws MalformedURLException {
+        jsons = new String[stubs];
+        for (int i = 0; i < stubs; i++) {
+            jsons[i] = BenchmarkFixtures.stub(i);
+        }
+        rootDir = BenchmarkFixtures.rootDirectory(stubs);
+        urls = new URL[stubs];
+        for (int i = 0; i < stubs; i++) {
+            urls[i] = rootDir.resolve("mappings").resolve("group-" + i % 100).resolve("stub-" + i + ".json").toUri().toURL();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteStubs() {
+        BenchmarkFixtures.delete(rootDir);
+    }
+
+    @Benchmark
+    public List<ContainerFile> withMappingFromJSON() {
+        WireMockContainer container = new WireMockContainer(BenchmarkFixtures.IMAGE).withRootDir(null);
+        for (int i = 0; i < stubs; i++) {
+            container.withMappingFromJSON("stub-" + i, jsons[i]);
+        }
+        return container.collectContainerFiles();
+    }
+
+    @Benchmark
+    public List<ContainerFile> withMappingFromResource() {
+        WireMockContainer container = new WireMockContainer(BenchmarkFixtures.IMAGE).withRootDir(null);
+        for (int i = 0; i < stubs; i++) {
+            container.withMappingFromResource("stub-" + i, urls[i]);
+        }
+        return container.collectContainerFiles();
+    }
+}
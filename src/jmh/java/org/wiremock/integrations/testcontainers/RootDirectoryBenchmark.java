@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading of a root directory with {@code mappings} and {@code __files}.
+ * The cold variant scans and hashes the tree, the warm one revalidates the JVM-wide manifest cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RootDirectoryBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int stubs;
+
+    private Path rootDir;
+
+    @Setup(Level.Trial)
+    public void createRootDirectory() {
+        rootDir = BenchmarkFixtures.rootDirectory(stubs);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteRootDirectory() {
+        FixtureManifestCache.clear();
+        BenchmarkFixtures.delete(rootDir);
+    }
+
+    @Benchmark
+    public List<ContainerFile> loadAllFilesFromRootDirectoryCold() {
+        FixtureManifestCache.clear();
+        return load();
+    }
+
+    @Benchmark
+    public List<ContainerFile> loadAllFilesFromRootDirectoryWarm() {
+        return load();
+    }
+
+    @Benchmark
+    public FixtureManifest scan() {
+        return RootDirectoryScanner.scan(rootDir.resolve("mappings"));
+    }
+
+    private List<ContainerFile> load() {
+        WireMockContainer container = new WireMockContainer(BenchmarkFixtures.IMAGE).withRootDir(rootDir.toFile());
+        container.loadAllFilesFromRootDirectory();
+        return container.collectContainerFiles();
+    }
+}
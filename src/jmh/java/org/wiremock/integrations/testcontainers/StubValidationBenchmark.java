@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.utility.MountableFile;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the host-side validation of the mappings by {@link StubValidator},
+ * for in-memory stubs and for stubs in the root directory.
+ * The target is well under 100ms for 10k stubs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StubValidationBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int stubs;
+
+    private List<ContainerFile> inMemory;
+    private List<ContainerFile> onDisk;
+    private Path rootDir;
+
+    @Setup(Level.Trial)
+    public void createStubs() {
+        WireMockContainer container = new WireMockContainer(BenchmarkFixtures.IMAGE).withRootDir(null);
+        for (int i = 0; i < stubs; i++) {
+            container.withMappingFromJSON("stub-" + i, BenchmarkFixtures.stub(i));
+        }
+        inMemory = container.collectContainerFiles();
+
+        rootDir = BenchmarkFixtures.rootDirectory(stubs);
+        onDisk = new ArrayList<>();
+        for (int i = 0; i < stubs; i++) {
+            Path stub = rootDir.resolve("mappings").resolve("group-" + i % 100).resolve("stub-" + i + ".json");
+            onDisk.add(new ContainerFile("/home/wiremock/mappings/stub-" + i + ".json", "", MountableFile.forHostPath(stub)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteStubs() {
+        BenchmarkFixtures.delete(rootDir);
+    }
+
+    @Benchmark
+    public List<String> inMemoryStubs() {
+        return StubValidator.validate(inMemory);
+    }
+
+    @Benchmark
+    public List<String> rootDirectoryStubs() {
+        return StubValidator.validate(onDisk);
+    }
+}
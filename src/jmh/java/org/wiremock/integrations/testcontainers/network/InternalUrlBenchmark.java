@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers.network;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.utility.DockerImageName;
+import org.wiremock.integrations.testcontainers.WireMockContainer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of requests from a peer container to {@link WireMockContainer}. Requires a local Docker daemon.
+ * The peer runs ApacheBench with keep-alive connections against one of the routes:
+ * <ul>
+ *     <li>{@code MAPPED_PORT} - through the Docker host and the mapped port, as {@link WireMockContainer#getBaseUrl()}</li>
+ *     <li>{@code INTERNAL_NETWORK} - directly over the shared network, as {@link WireMockContainer#getInternalUrl(Network)}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InternalUrlBenchmark {
+
+    private static final int REQUESTS = 20000;
+    private static final String HOST_ALIAS = "host.docker.internal";
+    private static final String PATH = "/benchmark/hello";
+
+    public enum Route {
+        MAPPED_PORT,
+        INTERNAL_NETWORK
+    }
+
+    @Param({"MAPPED_PORT", "INTERNAL_NETWORK"})
+    public Route route;
+
+    @Param({"16"})
+    public int concurrency;
+
+    private Network network;
+    private WireMockContainer wiremock;
+    private GenericContainer<?> client;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void startContainers() {
+        network = Network.newNetwork();
+        wiremock = new WireMockContainer(DockerImageName.parse(WireMockContainer.OFFICIAL_IMAGE_NAME).withTag("3.13.2-3"))
+                .withRootDir(null)
+                .withNetwork(network)
+                .withNetworkAliases("wiremock")
+                .withMappingFromJSON("hello", "{\"request\":{\"method\":\"GET\",\"url\":\"" + PATH + "\"},"
+                        + "\"response\":{\"status\":200,\"body\":\"Hello, world!\"}}");
+        // ApacheBench is shipped with the httpd image
+        client = new GenericContainer<>("httpd:2.4-alpine")
+                .withNetwork(network)
+                .withExtraHost(HOST_ALIAS, "host-gateway")
+                .withCommand("sleep", "infinity");
+        wiremock.start();
+        client.start();
+        url = route == Route.MAPPED_PORT
+                ? "http://" + HOST_ALIAS + ":" + wiremock.getPort() + PATH
+                : wiremock.getInternalUrl(network, PATH);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContainers() {
+        client.stop();
+        wiremock.stop();
+        network.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public String requests() throws IOException, InterruptedException {
+        Container.ExecResult result = client.execInContainer("ab", "-q", "-k",
+                "-n", String.valueOf(REQUESTS), "-c", String.valueOf(concurrency), url);
+        if (result.getExitCode() != 0 || !result.getStdout().matches("(?s).*Failed requests:\\s+0\\s.*")) {
+            throw new IllegalStateException("Benchmark requests to " + url + " failed: " + result.getStdout() + result.getStderr());
+        }
+        return result.getStdout();
+    }
+}
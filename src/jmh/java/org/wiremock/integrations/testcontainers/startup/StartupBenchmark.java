@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers.startup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.utility.DockerImageName;
+import org.wiremock.integrations.testcontainers.WireMockContainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end startup benchmarks of {@link WireMockContainer}. Requires a Docker daemon.
+ * Every measurement is a single shot, and JMH reports the percentiles of all shots in the JSON results.
+ * <ul>
+ *     <li>{@code coldStart} - start with all files copied into a new container</li>
+ *     <li>{@code warmStart} - start from the prebaked image, which is built once per trial</li>
+ *     <li>{@code firstResponse} - cold start until the first successful stub response</li>
+ * </ul>
+ * Besides the generated mappings, every container has one probe stub.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String PROBE_PATH = "/benchmark/probe";
+    private static final String EXTENSIONS_DIR = "target/test-wiremock-extension";
+    /** Same as the default startup timeout of the container */
+    private static final Duration PROBE_TIMEOUT = Duration.ofMinutes(1);
+
+    @Param({"2.35.1-1", "3.13.2-3"})
+    public String version;
+
+    @Param({"0", "1000", "10000"})
+    public int mappings;
+
+    @Param({"false", "true"})
+    public boolean extensions;
+
+    private WireMockContainer container;
+
+    @Setup(Level.Trial)
+    public void buildPrebakedImage() {
+        // Builds and caches the prebaked image, so that the warm start measures only the container startup
+        WireMockContainer prebaked = createContainer().withPrebakedImage(true);
+        prebaked.start();
+        prebaked.stop();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopContainer() {
+        if (container != null) {
+            container.stop();
+            container = null;
+        }
+    }
+
+    @Benchmark
+    public WireMockContainer coldStart() {
+        container = createContainer();
+        container.start();
+        return container;
+    }
+
+    @Benchmark
+    public WireMockContainer warmStart() {
+        container = createContainer().withPrebakedImage(true);
+        container.start();
+        return container;
+    }
+
+    @Benchmark
+    public int firstResponse() throws InterruptedException {
+        container = createContainer();
+        container.start();
+        final URL probe = toUrl(container.getUrl(PROBE_PATH));
+        final long deadline = System.nanoTime() + PROBE_TIMEOUT.toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            try {
+                HttpURLConnection connection = (HttpURLConnection) probe.openConnection();
+                int status = connection.getResponseCode();
+                try (InputStream is = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                    if (is != null) {
+                        while (is.read() != -1) {
+                            // Skip the body
+                        }
+                    }
+                }
+                if (status == 200) {
+                    return status;
+                }
+            } catch (IOException e) {
+                // Not reachable yet
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        throw new IllegalStateException("The probe stub did not respond within " + PROBE_TIMEOUT);
+    }
+
+    private WireMockContainer createContainer() {
+        final boolean isWireMock2 = version.startsWith("2.");
+        WireMockContainer result = new WireMockContainer(
+                DockerImageName.parse(WireMockContainer.OFFICIAL_IMAGE_NAME).withTag(version))
+                .withRootDir(null)
+                .withMappingFromJSON("probe", stub(PROBE_PATH));
+        for (int i = 0; i < mappings; i++) {
+            result.withMappingFromJSON("stub-" + i, stub("/benchmark/" + i));
+        }
+        if (extensions) {
+            // Same extensions as in the extension tests, supplied by the build into the target directory
+            if (isWireMock2) {
+                result.withExtension("Webhook",
+                        Collections.singleton("org.wiremock.webhooks.Webhooks"),
+                        Collections.singleton(Paths.get(EXTENSIONS_DIR, "wiremock-webhooks-extension-2.35.0.jar").toFile()));
+            } else {
+                // Webhooks are bundled with WireMock 3
+                result.withExtension("org.wiremock.webhooks.Webhooks");
+            }
+            result.withExtension("JSON Body Transformer",
+                    Collections.singleton("com.ninecookies.wiremock.extensions.JsonBodyTransformer"),
+                    Collections.singleton(Paths.get(EXTENSIONS_DIR, "wiremock-extensions-0.4.1-jar-with-dependencies.jar").toFile()));
+        }
+        return result;
+    }
+
+    private static String stub(String url) {
+        return "{\"request\":{\"method\":\"GET\",\"url\":\"" + url + "\"},"
+                + "\"response\":{\"status\":200,\"body\":\"Hello, world!\"}}";
+    }
+
+    private static URL toUrl(String url) {
+        try {
+            return new URL(url);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid URL " + url, e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.api.model.HostConfig;
+import com.github.dockerjava.api.model.Volume;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AppCDS archive of the WireMock JVM, persisted in a named Docker volume.
+ * The first start records the loaded classes into the archive when the JVM exits ({@code -XX:ArchiveClassesAtExit}),
+ * further starts map the archive instead of loading and verifying the classes again ({@code -XX:SharedArchiveFile}).
+ * The volume is keyed by the image and the extension JARs, because the archive is only valid for the same JVM and class path.
+ * JVMs without dynamic archiving (Java 12 and below) ignore the options, so the container checks the Java version of the image.
+ */
+/*package*/ final class ClassDataSharing {
+
+    /*package*/ static final String ARCHIVE_DIR = "/var/wiremock/cds";
+    /*package*/ static final String ARCHIVE = ARCHIVE_DIR + "/wiremock.jsa";
+    private static final String VOLUME_PREFIX = "wiremock-cds-";
+    /** {@code -XX:ArchiveClassesAtExit} is available since Java 13 */
+    /*package*/ static final int MINIMUM_JAVA_VERSION = 13;
+    /** Prints the Java version from the {@code release} file of the JDK, without starting a JVM */
+    /*package*/ static final String JAVA_VERSION_SCRIPT =
+            "sed -n 's/^JAVA_VERSION=\"\\(.*\\)\"$/\\1/p' \"$JAVA_HOME/release\" 2>/dev/null; true";
+
+    /**
+     * Shell statements choosing the archive option depending on whether the archive exists, run before the image entrypoint.
+     * The options are added only if the Java version of the image supports them, other JVMs start unchanged.
+     */
+    /*package*/ static final String SETUP_SCRIPT =
+            "java_version=$(" + JAVA_VERSION_SCRIPT + ");"
+                    + " java_major=${java_version#1.}; java_major=${java_major%%[._+-]*};"
+                    + " if [ \"$java_major\" -ge " + MINIMUM_JAVA_VERSION + " ] 2>/dev/null; then"
+                    + " if [ -f " + ARCHIVE + " ]; then"
+                    + " JAVA_OPTS=\"$JAVA_OPTS -XX:SharedArchiveFile=" + ARCHIVE + "\";"
+                    + " else"
+                    + " JAVA_OPTS=\"$JAVA_OPTS -XX:ArchiveClassesAtExit=" + ARCHIVE + "\";"
+                    + " fi;"
+                    + " export JAVA_OPTS;"
+                    + " fi;";
+
+    private ClassDataSharing() {
+        // Utility class
+    }
+
+    /**
+     * Get the name of the volume holding the archive.
+     * @param image Image name
+     * @param extensionDigests Digests of the extension JARs
+     * @return Volume name, e.g. {@code wiremock-cds-0123456789abcdef}
+     */
+    public static String volumeName(String image, Collection<String> extensionDigests) {
+        List<String> digests = new ArrayList<>(extensionDigests);
+        digests.sort(null);
+        return VOLUME_PREFIX + ContentDigest.of(image + "\n" + String.join("\n", digests)).substring(0, 16);
+    }
+
+    /**
+     * Parses the major Java version.
+     * @param version Version as in the {@code release} file, e.g. {@code 11.0.24} or {@code 1.8.0_422}
+     * @return Major version, {@code -1} if the version cannot be parsed
+     */
+    public static int javaMajorVersion(String version) {
+        String[] parts = version.trim().split("[._+-]");
+        String major = parts.length > 1 && "1".equals(parts[0]) ? parts[1] : parts[0];
+        try {
+            return Integer.parseInt(major);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Mounts the volume at the archive directory.
+     * @param hostConfig Host config of the container to create
+     * @param volumeName Volume name
+     */
+    public static void mount(HostConfig hostConfig, String volumeName) {
+        FileMounts.addBinds(hostConfig, Collections.singletonList(new Bind(volumeName, new Volume(ARCHIVE_DIR))));
+    }
+}
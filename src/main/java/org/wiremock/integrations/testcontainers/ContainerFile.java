@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.images.builder.Transferable;
+
+import java.util.function.Supplier;
+
+/**
+ * File to be copied into the container, addressed by its content digest.
+ * The digest may be computed on the first use, so that files mounted instead of being copied are never read.
+ */
+/*package*/ final class ContainerFile {
+
+    private final String path;
+    private final Supplier<String> digestSupplier;
+    private final Transferable content;
+    private volatile String digest;
+
+    public ContainerFile(String path, String digest, Transferable content) {
+        this(path, () -> digest, content);
+    }
+
+    public ContainerFile(String path, Supplier<String> digestSupplier, Transferable content) {
+        this.path = path;
+        this.digestSupplier = digestSupplier;
+        this.content = content;
+    }
+
+    /**
+     * Get absolute path of the file in the container.
+     * @return Container path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get digest of the file content.
+     * @return Hex-encoded SHA-256 digest, see {@link ContentDigest}
+     */
+    public String getDigest() {
+        if (digest == null) {
+            digest = digestSupplier.get();
+        }
+        return digest;
+    }
+
+    public Transferable getContent() {
+        return content;
+    }
+}
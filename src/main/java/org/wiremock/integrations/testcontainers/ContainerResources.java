@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+/**
+ * CPU and memory limits of the container, applied by {@link WireMockContainer#withResources(ContainerResources)}.
+ * The limits are enforced by the container cgroup, and the JVM sizes its heap and thread pools from them.
+ */
+public final class ContainerResources {
+
+    private Double cpus;
+    private Long memoryBytes;
+
+    /**
+     * Sets the CPU quota.
+     * @param cpus Number of CPUs, fractions are allowed, e.g. {@code 1.5}
+     * @return this instance
+     */
+    public ContainerResources cpus(double cpus) {
+        if (cpus <= 0) {
+            throw new IllegalArgumentException("CPUs must be positive, got " + cpus);
+        }
+        this.cpus = cpus;
+        return this;
+    }
+
+    /**
+     * Sets the memory limit. Swap is disabled, so that the capacity is reproducible.
+     * @param size Size in the JVM format, e.g. {@code 512m}
+     * @return this instance
+     */
+    public ContainerResources memoryLimit(String size) {
+        long bytes = JvmProfile.toBytes(size);
+        // Docker rejects limits below 6MB
+        if (bytes < 6 * 1024 * 1024) {
+            throw new IllegalArgumentException("Memory limit must be at least 6m, got " + size);
+        }
+        this.memoryBytes = bytes;
+        return this;
+    }
+
+    /*package*/ Double getCpus() {
+        return cpus;
+    }
+
+    /*package*/ Long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "cpus=" + (cpus == null ? "unlimited" : cpus)
+                + ", memory=" + (memoryBytes == null ? "unlimited" : memoryBytes + " bytes");
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resource limits and JVM settings in effect within the running container,
+ * as read from the container cgroup and from the JVM ergonomics.
+ * Returned by {@link WireMockContainer#getEffectiveResources()}.
+ */
+public final class EffectiveResources {
+
+    /**
+     * Script printing the memory limit and the CPU quota and period on two lines, for both cgroup v1 and v2.
+     */
+    /*package*/ static final String CGROUP_SCRIPT =
+            "if [ -f /sys/fs/cgroup/cpu.max ]; then"
+                    + " cat /sys/fs/cgroup/memory.max; cat /sys/fs/cgroup/cpu.max;"
+                    + " else"
+                    + " cat /sys/fs/cgroup/memory/memory.limit_in_bytes;"
+                    + " echo \"$(cat /sys/fs/cgroup/cpu/cpu.cfs_quota_us) $(cat /sys/fs/cgroup/cpu/cpu.cfs_period_us)\";"
+                    + " fi";
+
+    /**
+     * Script printing the final flags of the running WireMock JVM with {@code jcmd}.
+     * JRE images have no {@code jcmd}, then a short-lived JVM prints its flags with the same {@code JAVA_OPTS}.
+     */
+    /*package*/ static final String JVM_FLAGS_SCRIPT =
+            "pid=1; for p in /proc/[0-9]*; do"
+                    + " if [ \"$(cat $p/comm 2>/dev/null)\" = java ]; then pid=${p#/proc/}; break; fi;"
+                    + " done;"
+                    + " flags=$(jcmd $pid VM.flags -all 2>/dev/null);"
+                    + " case \"$flags\" in"
+                    + " *MaxHeapSize*) echo \"$flags\";;"
+                    + " *) exec java $JAVA_OPTS -XX:+PrintFlagsFinal -version;;"
+                    + " esac";
+
+    // cgroup v1 reports "no limit" as the largest page-aligned long
+    private static final long CGROUP_V1_UNLIMITED = 1L << 62;
+    private static final Pattern FLAG = Pattern.compile("^\\s*\\S+\\s+(\\w+)\\s+:?=\\s+(\\S+)");
+
+    private final long memoryLimitBytes;
+    private final double cpus;
+    private final long initialHeapBytes;
+    private final long maxHeapBytes;
+    private final JvmProfile.GarbageCollector garbageCollector;
+
+    /*package*/ EffectiveResources(long memoryLimitBytes, double cpus, long initialHeapBytes, long maxHeapBytes,
+                                   JvmProfile.GarbageCollector garbageCollector) {
+        this.memoryLimitBytes = memoryLimitBytes;
+        this.cpus = cpus;
+        this.initialHeapBytes = initialHeapBytes;
+        this.maxHeapBytes = maxHeapBytes;
+        this.garbageCollector = garbageCollector;
+    }
+
+    /**
+     * Parses the outputs of {@link #CGROUP_SCRIPT} and {@link #JVM_FLAGS_SCRIPT}.
+     * Both {@code jcmd VM.flags -all} and {@code -XX:+PrintFlagsFinal} print the flags in the same format.
+     */
+    /*package*/ static EffectiveResources parse(String cgroupOutput, String jvmFlagsOutput) {
+        String[] lines = cgroupOutput.trim().split("\\s*\\n\\s*");
+        if (lines.length != 2) {
+            throw new IllegalStateException("Unexpected cgroup limits output: " + cgroupOutput);
+        }
+        long memoryLimit = -1;
+        if (!"max".equals(lines[0])) {
+            memoryLimit = Long.parseLong(lines[0]);
+            if (memoryLimit >= CGROUP_V1_UNLIMITED) {
+                memoryLimit = -1;
+            }
+        }
+        String[] cpuQuota = lines[1].split("\\s+");
+        double cpus = -1;
+        if (!"max".equals(cpuQuota[0]) && !"-1".equals(cpuQuota[0])) {
+            cpus = Long.parseLong(cpuQuota[0]) / (double) Long.parseLong(cpuQuota[1]);
+        }
+
+        Map<String, String> flags = new HashMap<>();
+        for (String line : jvmFlagsOutput.split("\\n")) {
+            Matcher matcher = FLAG.matcher(line);
+            if (matcher.find()) {
+                flags.put(matcher.group(1), matcher.group(2));
+            }
+        }
+        if (!flags.containsKey("MaxHeapSize")) {
+            throw new IllegalStateException("JVM flags output does not contain MaxHeapSize");
+        }
+        JvmProfile.GarbageCollector gc = null;
+        for (JvmProfile.GarbageCollector candidate : JvmProfile.GarbageCollector.values()) {
+            if ("true".equals(flags.get(candidate.getFlag()))) {
+                gc = candidate;
+            }
+        }
+        return new EffectiveResources(memoryLimit, cpus,
+                Long.parseLong(flags.getOrDefault("InitialHeapSize", "0")),
+                Long.parseLong(flags.get("MaxHeapSize")), gc);
+    }
+
+    /**
+     * Get the memory limit of the container.
+     * @return Limit in bytes, or {@code -1} if the memory is not limited
+     */
+    public long getMemoryLimitBytes() {
+        return memoryLimitBytes;
+    }
+
+    /**
+     * Get the CPU quota of the container.
+     * @return Number of CPUs, or {@code -1} if the CPU is not limited
+     */
+    public double getCpus() {
+        return cpus;
+    }
+
+    public long getInitialHeapBytes() {
+        return initialHeapBytes;
+    }
+
+    public long getMaxHeapBytes() {
+        return maxHeapBytes;
+    }
+
+    /**
+     * Get the garbage collector selected by the JVM.
+     * @return Garbage collector, or empty if it is not one of {@link JvmProfile.GarbageCollector}
+     */
+    public Optional<JvmProfile.GarbageCollector> getGarbageCollector() {
+        return Optional.ofNullable(garbageCollector);
+    }
+
+    @Override
+    public String toString() {
+        return "memory=" + (memoryLimitBytes < 0 ? "unlimited" : memoryLimitBytes + " bytes")
+                + ", cpus=" + (cpus < 0 ? "unlimited" : cpus)
+                + ", heap=" + initialHeapBytes + ".." + maxHeapBytes + " bytes"
+                + ", gc=" + (garbageCollector == null ? "other" : garbageCollector);
+    }
+}
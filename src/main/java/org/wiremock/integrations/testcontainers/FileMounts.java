@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.model.AccessMode;
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.api.model.HostConfig;
+import com.github.dockerjava.api.model.Volume;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Selects large fixtures to be bind-mounted read-only instead of being copied into the container.
+ * Only files on the local filesystem can be mounted, and only when the Docker daemon shares that filesystem.
+ * Classpath resources from JARs are extracted by Testcontainers into a temporary directory, and they are copied as before.
+ */
+/*package*/ final class FileMounts {
+
+    /*package*/ static final long DEFAULT_THRESHOLD = 10 * 1024 * 1024;
+    // Prefix of the directories where MountableFile extracts classpath resources from JARs
+    private static final String EXTRACTED_RESOURCE_MARKER = ".testcontainers-tmp-";
+
+    private FileMounts() {
+        // Utility class
+    }
+
+    /**
+     * Removes the files to be mounted from the list.
+     * @param files Files to be copied into the container. Modified in place
+     * @param containerDir Only files within this container directory are mounted
+     * @param threshold Minimum size of a file or a directory to be mounted, in bytes
+     * @param isLocalDockerHost Whether the Docker daemon shares the filesystem. Checked only if there are files to mount
+     * @return Read-only binds for the removed files
+     */
+    public static List<Bind> extract(List<ContainerFile> files, String containerDir, long threshold,
+                                     BooleanSupplier isLocalDockerHost) {
+        final List<Bind> binds = new ArrayList<>();
+        Boolean local = null;
+        for (Iterator<ContainerFile> it = files.iterator(); it.hasNext(); ) {
+            ContainerFile file = it.next();
+            if (!file.getPath().startsWith(containerDir) || !(file.getContent() instanceof MountableFile)) {
+                continue;
+            }
+            String hostPath = ((MountableFile) file.getContent()).getResolvedPath();
+            if (hostPath.contains(EXTRACTED_RESOURCE_MARKER) || sizeOf(Paths.get(hostPath)) < threshold) {
+                continue;
+            }
+            if (local == null) {
+                local = isLocalDockerHost.getAsBoolean();
+            }
+            if (!local) {
+                break;
+            }
+            binds.add(new Bind(Paths.get(hostPath).toAbsolutePath().toString(), new Volume(file.getPath()), AccessMode.ro));
+            it.remove();
+        }
+        return binds;
+    }
+
+    /**
+     * Checks whether the Docker daemon runs on this machine, so that it can mount the local files.
+     * @param dockerHost Docker host URI
+     * @return {@code true} for local sockets and for TCP connections to the loopback address
+     */
+    public static boolean isLocalDockerHost(URI dockerHost) {
+        String scheme = dockerHost.getScheme();
+        if ("unix".equals(scheme) || "npipe".equals(scheme)) {
+            return true;
+        }
+        String host = dockerHost.getHost();
+        return "localhost".equals(host) || "127.0.0.1".equals(host) || "::1".equals(host) || "[::1]".equals(host);
+    }
+
+    /**
+     * Adds binds to the host config, keeping the existing ones.
+     * @param hostConfig Host config of the container to create
+     * @param binds Binds to add
+     */
+    public static void addBinds(HostConfig hostConfig, Collection<Bind> binds) {
+        List<Bind> result = new ArrayList<>();
+        if (hostConfig.getBinds() != null) {
+            result.addAll(Arrays.asList(hostConfig.getBinds()));
+        }
+        result.addAll(binds);
+        hostConfig.withBinds(result);
+    }
+
+    /*package*/ static long sizeOf(Path path) {
+        try {
+            if (!Files.isDirectory(path)) {
+                return Files.size(path);
+            }
+            long size = 0;
+            try (Stream<Path> walk = Files.walk(path)) {
+                for (Iterator<Path> it = walk.filter(Files::isRegularFile).iterator(); it.hasNext(); ) {
+                    size += Files.size(it.next());
+                }
+            }
+            return size;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to get the size of " + path, e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manifest of the files found in a fixture directory, e.g. {@code mappings} or {@code __files}.
+ * Produced by {@link RootDirectoryScanner}.
+ */
+/*package*/ final class FixtureManifest {
+
+    private final Path directory;
+    private final List<Entry> entries;
+    private final Map<Path, FileTime> directoryTimestamps;
+
+    public FixtureManifest(Path directory, Collection<Entry> entries, Map<Path, FileTime> directoryTimestamps) {
+        this.directory = directory;
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(Entry::getRelativePath));
+        this.entries = Collections.unmodifiableList(sorted);
+        this.directoryTimestamps = Collections.unmodifiableMap(new HashMap<>(directoryTimestamps));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Get the files, sorted by the relative path.
+     * @return List of entries
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Get modification times of the scanned directories, including the nested ones.
+     * Adding, removing or renaming a file updates the modification time of its directory.
+     * @return Map of directories to their modification times
+     */
+    public Map<Path, FileTime> getDirectoryTimestamps() {
+        return directoryTimestamps;
+    }
+
+    public long getTotalSize() {
+        long size = 0;
+        for (Entry entry : entries) {
+            size += entry.getSize();
+        }
+        return size;
+    }
+
+    public static final class Entry {
+        private final String relativePath;
+        private final Path path;
+        private final long size;
+        private final FileTime lastModified;
+        /** {@code null} until computed on the first use, unless digested during the scan */
+        private volatile String digest;
+
+        public Entry(String relativePath, Path path, long size, FileTime lastModified, String digest) {
+            this.relativePath = relativePath;
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.digest = digest;
+        }
+
+        /**
+         * Get the path relative to the scanned directory.
+         * @return Path with {@code /} as a separator
+         */
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public FileTime getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Get digest of the file content.
+         * @return Hex-encoded SHA-256 digest, see {@link ContentDigest}
+         * @throws IllegalArgumentException the file cannot be read
+         */
+        public String getDigest() {
+            if (digest == null) {
+                try {
+                    digest = ContentDigest.of(path);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Cannot read file " + path, e);
+                }
+            }
+            return digest;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM-wide cache of {@link FixtureManifest}s, keyed by the canonical directory path.
+ * All containers in the JVM share it, so the same root directory is read and digested only once.
+ * <p>
+ * A cached manifest is reused while modification times and sizes of all its files and directories stay the same.
+ * Checking them requires only file attributes, the content is never re-read for an up-to-date manifest.
+ */
+/*package*/ final class FixtureManifestCache {
+
+    private static final Map<Path, FixtureManifest> MANIFESTS = new ConcurrentHashMap<>();
+
+    private FixtureManifestCache() {
+        // Utility class
+    }
+
+    /**
+     * Get the manifest of the directory, scanning it if there is no up-to-date manifest in the cache.
+     * @param directory Directory to scan
+     * @return Manifest of the directory
+     * @throws IllegalArgumentException the directory cannot be scanned, see {@link RootDirectoryScanner#scan(Path)}
+     */
+    public static FixtureManifest get(Path directory) {
+        return get(directory, true);
+    }
+
+    /**
+     * Get the manifest of the directory, scanning it if there is no up-to-date manifest in the cache.
+     * @param directory Directory to scan
+     * @param digest Whether to digest the files during the scan, see {@link RootDirectoryScanner#scan(Path, boolean)}
+     * @return Manifest of the directory
+     * @throws IllegalArgumentException the directory cannot be scanned, see {@link RootDirectoryScanner#scan(Path)}
+     */
+    public static FixtureManifest get(Path directory, boolean digest) {
+        if (!Files.isDirectory(directory)) {
+            return new FixtureManifest(directory, Collections.emptyList(), Collections.emptyMap());
+        }
+
+        final Path key;
+        try {
+            key = directory.toRealPath();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot resolve directory " + directory, e);
+        }
+        return MANIFESTS.compute(key, (path, cached) ->
+                cached != null && isUpToDate(cached) ? cached : RootDirectoryScanner.scan(path, digest));
+    }
+
+    /*package*/ static void clear() {
+        MANIFESTS.clear();
+    }
+
+    private static boolean isUpToDate(FixtureManifest manifest) {
+        try {
+            for (Map.Entry<Path, FileTime> directory : manifest.getDirectoryTimestamps().entrySet()) {
+                if (!Files.getLastModifiedTime(directory.getKey()).equals(directory.getValue())) {
+                    return false;
+                }
+            }
+            for (FixtureManifest.Entry entry : manifest.getEntries()) {
+                BasicFileAttributes attributes = Files.readAttributes(entry.getPath(), BasicFileAttributes.class);
+                if (attributes.size() != entry.getSize() || !attributes.lastModifiedTime().equals(entry.getLastModified())) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * JVM settings of the WireMock server within the container, applied by {@link WireMockContainer#withJvmProfile(JvmProfile)}.
+ * The settings are passed through the {@code JAVA_OPTS} environment variable of the WireMock image.
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * new WireMockContainer(image)
+ *         .withJvmProfile(new JvmProfile().initialHeap("256m").maxHeap("256m").garbageCollector(JvmProfile.GarbageCollector.PARALLEL))
+ *         .withResources(new ContainerResources().cpus(2).memoryLimit("512m"));
+ * }</pre>
+ */
+public final class JvmProfile {
+
+    private static final Pattern SIZE = Pattern.compile("\\d+[kKmMgG]?");
+
+    /**
+     * Garbage collectors available in the JVMs of the WireMock images.
+     */
+    public enum GarbageCollector {
+        SERIAL("UseSerialGC"),
+        PARALLEL("UseParallelGC"),
+        G1("UseG1GC"),
+        /** Requires Java 15+, the default WireMock images run Java 11, so a custom image is needed */
+        Z("UseZGC");
+
+        private final String flag;
+
+        GarbageCollector(String flag) {
+            this.flag = flag;
+        }
+
+        /**
+         * Get the name of the boolean JVM flag selecting the collector.
+         * @return Flag name, e.g. {@code UseG1GC}
+         */
+        public String getFlag() {
+            return flag;
+        }
+    }
+
+    private String initialHeap;
+    private String maxHeap;
+    private Double maxRamPercentage;
+    private GarbageCollector garbageCollector;
+    private final List<String> options = new ArrayList<>();
+
+    /**
+     * Sets the initial heap size ({@code -Xms}).
+     * @param size Size in the JVM format, e.g. {@code 256m}
+     * @return this instance
+     */
+    public JvmProfile initialHeap(String size) {
+        this.initialHeap = verifySize(size);
+        return this;
+    }
+
+    /**
+     * Sets the maximum heap size ({@code -Xmx}).
+     * @param size Size in the JVM format, e.g. {@code 1g}
+     * @return this instance
+     */
+    public JvmProfile maxHeap(String size) {
+        if (maxRamPercentage != null) {
+            throw new IllegalArgumentException("Maximum heap cannot be set together with the maximum RAM percentage");
+        }
+        this.maxHeap = verifySize(size);
+        return this;
+    }
+
+    /**
+     * Sizes the maximum heap relative to the container memory limit ({@code -XX:MaxRAMPercentage}).
+     * @param percentage Percentage of the container memory
+     * @return this instance
+     */
+    public JvmProfile maxRamPercentage(double percentage) {
+        if (maxHeap != null) {
+            throw new IllegalArgumentException("Maximum RAM percentage cannot be set together with the maximum heap");
+        }
+        if (percentage <= 0 || percentage > 100) {
+            throw new IllegalArgumentException("Maximum RAM percentage must be within (0, 100], got " + percentage);
+        }
+        this.maxRamPercentage = percentage;
+        return this;
+    }
+
+    public JvmProfile garbageCollector(GarbageCollector garbageCollector) {
+        this.garbageCollector = garbageCollector;
+        return this;
+    }
+
+    /**
+     * Adds a raw JVM option.
+     * @param option JVM option, e.g. {@code -XX:+AlwaysPreTouch}
+     * @return this instance
+     */
+    public JvmProfile option(String option) {
+        if (!option.startsWith("-") || option.contains(" ")) {
+            throw new IllegalArgumentException("JVM option must start with '-' and contain no spaces, got '" + option + "'");
+        }
+        options.add(option);
+        return this;
+    }
+
+    /**
+     * Get the options in the order they are passed to the JVM.
+     * @return JVM options
+     */
+    public List<String> toJvmOptions() {
+        List<String> result = new ArrayList<>();
+        if (initialHeap != null) {
+            result.add("-Xms" + initialHeap);
+        }
+        if (maxHeap != null) {
+            result.add("-Xmx" + maxHeap);
+        }
+        if (maxRamPercentage != null) {
+            result.add(String.format(Locale.ROOT, "-XX:MaxRAMPercentage=%.1f", maxRamPercentage));
+        }
+        if (garbageCollector != null) {
+            result.add("-XX:+" + garbageCollector.getFlag());
+        }
+        result.addAll(options);
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", toJvmOptions());
+    }
+
+    /*package*/ static String verifySize(String size) {
+        if (size == null || !SIZE.matcher(size).matches()) {
+            throw new IllegalArgumentException("Size must be a number with an optional k, m or g suffix, got '" + size + "'");
+        }
+        return size;
+    }
+
+    /*package*/ static long toBytes(String size) {
+        verifySize(size);
+        char unit = Character.toLowerCase(size.charAt(size.length() - 1));
+        if (Character.isDigit(unit)) {
+            return Long.parseLong(size);
+        }
+        long value = Long.parseLong(size.substring(0, size.length() - 1));
+        switch (unit) {
+            case 'k':
+                return value * 1024;
+            case 'm':
+                return value * 1024 * 1024;
+            default:
+                return value * 1024 * 1024 * 1024;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Request recorded in the WireMock request journal.
+ */
+public final class LoggedRequest {
+
+    private final String id;
+    private final String method;
+    private final String url;
+    private final Map<String, String> headers;
+    private final String body;
+    private final Instant loggedDate;
+    private final boolean wasMatched;
+    private final int responseStatus;
+
+    public LoggedRequest(String id, String method, String url, Map<String, String> headers, String body,
+                         Instant loggedDate, boolean wasMatched, int responseStatus) {
+        this.id = id;
+        this.method = method;
+        this.url = url;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.body = body;
+        this.loggedDate = loggedDate;
+        this.wasMatched = wasMatched;
+        this.responseStatus = responseStatus;
+    }
+
+    /**
+     * Creates the request from a serve event of the {@code /__admin/requests} response.
+     * @param serveEvent Serve event JSON
+     * @return Logged request
+     */
+    /*package*/ static LoggedRequest fromServeEvent(JsonNode serveEvent) {
+        return fromRequest(serveEvent.path("request"),
+                serveEvent.path("id").asText(),
+                serveEvent.path("wasMatched").asBoolean(true),
+                serveEvent.path("response").path("status").asInt(serveEvent.path("responseDefinition").path("status").asInt()));
+    }
+
+    /**
+     * Creates the request from an element of the {@code /__admin/requests/find} or {@code /unmatched} response,
+     * which carry neither the serve event ID nor the response.
+     * @param request Logged request JSON
+     * @param wasMatched Whether the request matched a stub
+     * @return Logged request
+     */
+    /*package*/ static LoggedRequest fromRequest(JsonNode request, boolean wasMatched) {
+        return fromRequest(request, request.path("id").asText(""), wasMatched, 0);
+    }
+
+    private static LoggedRequest fromRequest(JsonNode request, String id, boolean wasMatched, int responseStatus) {
+        final Map<String, String> headers = new LinkedHashMap<>();
+        final Iterator<Map.Entry<String, JsonNode>> fields = request.path("headers").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> header = fields.next();
+            // Multi-valued headers are joined, as they would be sent over the wire
+            headers.put(header.getKey(), header.getValue().isArray()
+                    ? String.join(",", () -> toStrings(header.getValue()))
+                    : header.getValue().asText());
+        }
+        return new LoggedRequest(
+                id,
+                request.path("method").asText(),
+                request.path("url").asText(),
+                headers,
+                request.path("body").asText(""),
+                Instant.ofEpochMilli(request.path("loggedDate").asLong()),
+                wasMatched,
+                responseStatus);
+    }
+
+    private static Iterator<CharSequence> toStrings(JsonNode array) {
+        final Iterator<JsonNode> elements = array.elements();
+        return new Iterator<CharSequence>() {
+            @Override
+            public boolean hasNext() {
+                return elements.hasNext();
+            }
+
+            @Override
+            public CharSequence next() {
+                return elements.next().asText();
+            }
+        };
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public Instant getLoggedDate() {
+        return loggedDate;
+    }
+
+    public boolean wasMatched() {
+        return wasMatched;
+    }
+
+    /**
+     * Get the status of the response served for the request.
+     * @return HTTP status, or {@code 0} if not known, e.g. for the results of the request search
+     */
+    public int getResponseStatus() {
+        return responseStatus;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + url + " -> " + responseStatus + " at " + loggedDate;
+    }
+}
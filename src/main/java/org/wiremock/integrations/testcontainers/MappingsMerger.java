@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonEncoding;
+import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonGenerator;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.wiremock.integrations.testcontainers.WireMockAdminClient.MAPPER;
+
+/**
+ * Merges mapping files into a few {@code {"mappings": [...]}} documents, so that WireMock opens and parses
+ * a handful of files at startup instead of one file per stub.
+ * Stubs are read one by one and streamed into temporary files, so only one stub is held in memory at a time.
+ * Each stub keeps its name in {@code metadata.testcontainers.name}.
+ */
+/*package*/ final class MappingsMerger {
+
+    /*package*/ static final String METADATA_KEY = "testcontainers";
+    private static final String MAPPINGS = "mappings";
+
+    private MappingsMerger() {
+        // Utility class
+    }
+
+    /**
+     * Replaces the mapping files by the merged documents.
+     * @param files Files to be copied into the container
+     * @param mappingsDir Container mappings directory
+     * @param shards Maximum number of merged documents
+     * @return Files to be copied, with the merged documents first
+     */
+    public static Result merge(List<ContainerFile> files, String mappingsDir, int shards) {
+        final List<ContainerFile> mappings = new ArrayList<>();
+        final List<ContainerFile> others = new ArrayList<>();
+        for (ContainerFile file : files) {
+            (file.getPath().startsWith(mappingsDir) ? mappings : others).add(file);
+        }
+        if (mappings.isEmpty()) {
+            return new Result(files, 0);
+        }
+        // Sorted, so that the documents and their digests do not depend on the declaration order
+        mappings.sort(Comparator.comparing(ContainerFile::getPath));
+
+        final List<ContainerFile> result = new ArrayList<>();
+        final int shardSize = (mappings.size() + shards - 1) / shards;
+        int stubCount = 0;
+        for (int from = 0, shard = 0; from < mappings.size(); from += shardSize, shard++) {
+            List<ContainerFile> shardMappings = mappings.subList(from, Math.min(from + shardSize, mappings.size()));
+            try {
+                Path document = Files.createTempFile("wiremock-mappings-", ".json");
+                document.toFile().deleteOnExit();
+                stubCount += write(shardMappings, mappingsDir, document);
+                result.add(new ContainerFile(mappingsDir + "merged-" + shard + ".json", ContentDigest.of(document),
+                        MountableFile.forHostPath(document)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to merge the mappings", e);
+            }
+        }
+        result.addAll(others);
+        return new Result(result, stubCount);
+    }
+
+    private static int write(List<ContainerFile> mappings, String mappingsDir, Path document) throws IOException {
+        int stubCount = 0;
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(document.toFile(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(MAPPINGS);
+            for (ContainerFile mapping : mappings) {
+                String name = toStubName(mapping.getPath(), mappingsDir);
+                final JsonNode stub;
+                try (InputStream is = openStream(mapping.getContent())) {
+                    stub = MAPPER.readTree(is);
+                }
+                // A mapping file may already contain multiple stubs
+                Iterable<JsonNode> stubs = stub != null && stub.has(MAPPINGS)
+                        ? stub.get(MAPPINGS)
+                        : Collections.singletonList(stub);
+                for (JsonNode node : stubs) {
+                    if (node == null || !node.isObject()) {
+                        throw new IllegalArgumentException("Mapping " + name + " is not a JSON object");
+                    }
+                    writeStub(generator, (ObjectNode) node, name);
+                    stubCount++;
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return stubCount;
+    }
+
+    private static void writeStub(JsonGenerator generator, ObjectNode stub, String name) throws IOException {
+        stub.withObjectProperty("metadata").withObjectProperty(METADATA_KEY).put("name", name);
+        generator.writeTree(stub);
+    }
+
+    private static String toStubName(String path, String mappingsDir) {
+        String name = path.substring(mappingsDir.length());
+        return name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+    }
+
+    /*package*/ static InputStream openStream(Transferable content) throws IOException {
+        if (content instanceof MountableFile) {
+            return Files.newInputStream(Paths.get(((MountableFile) content).getResolvedPath()));
+        }
+        if (content instanceof UrlTransferable) {
+            return ((UrlTransferable) content).openStream();
+        }
+        return new ByteArrayInputStream(content.getBytes());
+    }
+
+    /**
+     * Merged files and the number of stubs within them.
+     */
+    /*package*/ static final class Result {
+        private final List<ContainerFile> files;
+        private final int stubCount;
+
+        Result(List<ContainerFile> files, int stubCount) {
+            this.files = files;
+            this.stubCount = stubCount;
+        }
+
+        public List<ContainerFile> getFiles() {
+            return files;
+        }
+
+        public int getStubCount() {
+            return stubCount;
+        }
+    }
+}
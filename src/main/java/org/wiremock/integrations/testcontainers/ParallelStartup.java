@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Starts containers concurrently on a shared bounded executor.
+ * Startup is dominated by waiting for Docker and for the WireMock JVM, so the threads are mostly idle
+ * and the parallelism is not tied to the number of CPUs.
+ */
+/*package*/ final class ParallelStartup {
+
+    /*package*/ static final int PARALLELISM = 8;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(PARALLELISM, PARALLELISM,
+            30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+        Thread thread = new Thread(r, "wiremock-startup-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private ParallelStartup() {
+        // Utility class
+    }
+
+    public static CompletableFuture<WireMockContainer> startAsync(WireMockContainer container) {
+        final CompletableFuture<WireMockContainer> result = new CompletableFuture<>();
+        EXECUTOR.execute(() -> {
+            try {
+                container.start();
+                result.complete(container);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Starts all containers and waits for them.
+     * Once a container fails, the queued starts are skipped, the running ones are interrupted,
+     * and all containers are stopped before the failure is rethrown.
+     * @param containers Containers to start
+     */
+    public static void startAll(Collection<? extends WireMockContainer> containers) {
+        // Create the shared networks once, before the containers attach to them concurrently
+        containers.stream()
+                .map(GenericContainer::getNetwork)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(Network::getId);
+
+        final CountDownLatch finished = new CountDownLatch(containers.size());
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Throwable> suppressed = new ArrayList<>();
+        final Set<Thread> running = new HashSet<>();
+        for (WireMockContainer container : containers) {
+            EXECUTOR.execute(() -> {
+                try {
+                    synchronized (running) {
+                        if (failure.get() != null) {
+                            return;
+                        }
+                        running.add(Thread.currentThread());
+                    }
+                    container.start();
+                } catch (Throwable e) {
+                    synchronized (running) {
+                        if (failure.compareAndSet(null, e)) {
+                            running.stream().filter(thread -> thread != Thread.currentThread()).forEach(Thread::interrupt);
+                        } else {
+                            suppressed.add(e);
+                        }
+                    }
+                } finally {
+                    synchronized (running) {
+                        running.remove(Thread.currentThread());
+                        // Do not leak the interrupt to the next start on this thread
+                        Thread.interrupted();
+                    }
+                    finished.countDown();
+                }
+            });
+        }
+
+        boolean interrupted = false;
+        while (finished.getCount() > 0) {
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                // Cancel the starts, but wait for them to finish before the containers are stopped
+                interrupted = true;
+                synchronized (running) {
+                    failure.compareAndSet(null, e);
+                    running.forEach(Thread::interrupt);
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        final Throwable cause = failure.get();
+        if (cause == null) {
+            return;
+        }
+        containers.forEach(WireMockContainer::stop);
+        synchronized (running) {
+            suppressed.forEach(cause::addSuppressed);
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException("Failed to start the containers", cause);
+    }
+}
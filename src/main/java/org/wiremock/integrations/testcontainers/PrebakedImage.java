@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.ConflictException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Derived WireMock image with all mappings, files and extension JARs baked in.
+ * The image is tagged with a hash of the base image ID and of all files,
+ * so it is built once and reused by all later runs with the same configuration.
+ * The build uses the local base image and does not pull anything.
+ * <p>
+ * The images outlive the JVM, so that later runs can reuse them.
+ * They are labeled with {@link #LABEL}, and outdated ones can be removed with {@link #prune()}.
+ */
+/*package*/ final class PrebakedImage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrebakedImage.class);
+
+    /*package*/ static final String IMAGE_NAME = "wiremock-testcontainers-prebaked";
+    /** Label of all prebaked images, its value is the base image name */
+    /*package*/ static final String LABEL = "org.wiremock.testcontainers.prebaked";
+    private static final String CONTEXT_DIR = "fixtures";
+    private static final int TAG_LENGTH = 32;
+    /** Images resolved by this JVM, they are never pruned */
+    private static final Set<String> USED_IMAGES = ConcurrentHashMap.newKeySet();
+
+    private PrebakedImage() {
+        // Utility class
+    }
+
+    /**
+     * Gets the derived image, building it if it does not exist locally.
+     * @param baseImage Resolved base image name, must be present locally
+     * @param files Files to bake in
+     * @return Name of the derived image
+     */
+    public static String resolve(String baseImage, List<ContainerFile> files) {
+        DockerClient client = DockerClientFactory.instance().client();
+        String baseImageId = client.inspectImageCmd(baseImage).exec().getId();
+        String imageName = IMAGE_NAME + ":" + configurationHash(baseImageId, files);
+        USED_IMAGES.add(imageName);
+
+        if (exists(client, imageName)) {
+            LOGGER.debug("Reusing prebaked image {} for {}", imageName, baseImage);
+            return imageName;
+        }
+
+        LOGGER.info("Building prebaked image {} from {} with {} files", imageName, baseImage, files.size());
+        new ImageFromDockerfile(imageName, false)
+                .withFileFromTransferable(CONTEXT_DIR, new WireMockFilesBundle(CONTEXT_DIR, files))
+                .withDockerfileFromBuilder(builder -> builder
+                        .from(baseImage)
+                        .copy(CONTEXT_DIR + "/", "/")
+                        .build())
+                .withBuildImageCmdModifier(cmd -> cmd.withPull(false).withLabels(Collections.singletonMap(LABEL, baseImage)))
+                .get();
+        return imageName;
+    }
+
+    /**
+     * Removes the prebaked images, except for the ones used by this JVM.
+     * Images used by containers, including the stopped ones, are skipped.
+     * @return Number of removed images
+     */
+    public static int prune() {
+        DockerClient client = DockerClientFactory.instance().client();
+        int removed = 0;
+        for (Image image : client.listImagesCmd().withLabelFilter(LABEL).exec()) {
+            if (image.getRepoTags() == null) {
+                continue;
+            }
+            for (String tag : image.getRepoTags()) {
+                if (USED_IMAGES.contains(tag)) {
+                    continue;
+                }
+                try {
+                    client.removeImageCmd(tag).exec();
+                    LOGGER.debug("Removed prebaked image {}", tag);
+                    removed++;
+                } catch (ConflictException e) {
+                    LOGGER.debug("Prebaked image {} is in use, skipping", tag);
+                } catch (NotFoundException e) {
+                    // Removed concurrently
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Computes hash of the image configuration.
+     * @param baseImageId ID of the base image
+     * @param files Files to bake in
+     * @return Hex-encoded hash, usable as an image tag
+     */
+    /*package*/ static String configurationHash(String baseImageId, List<ContainerFile> files) {
+        String configuration = baseImageId + "\n" + files.stream()
+                .sorted(Comparator.comparing(ContainerFile::getPath))
+                .map(file -> file.getPath() + "=" + file.getDigest())
+                .collect(Collectors.joining("\n"));
+        return ContentDigest.of(configuration).substring(0, TAG_LENGTH);
+    }
+
+    private static boolean exists(DockerClient client, String imageName) {
+        try {
+            client.inspectImageCmd(imageName).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+}
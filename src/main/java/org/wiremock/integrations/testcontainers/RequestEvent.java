@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.time.Instant;
+
+/**
+ * Request served by WireMock, pushed from the container log by {@link RequestEventStream}.
+ */
+public final class RequestEvent {
+
+    private final String clientAddress;
+    private final String method;
+    private final String url;
+    private final Instant receivedAt;
+
+    public RequestEvent(String clientAddress, String method, String url, Instant receivedAt) {
+        this.clientAddress = clientAddress;
+        this.method = method;
+        this.url = url;
+        this.receivedAt = receivedAt;
+    }
+
+    public String getClientAddress() {
+        return clientAddress;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Get the time when the host received the event.
+     * @return Host time of the event
+     */
+    public Instant getReceivedAt() {
+        return receivedAt;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + url + " from " + clientAddress;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pushes the requests served by WireMock to the host as they happen.
+ * The stream is a container log consumer which parses the request lines WireMock prints in the verbose mode,
+ * so it needs no extension in the container. Enable it with {@link WireMockContainer#withRequestEvents()}.
+ * <p>
+ * Subscribers signal the demand through {@link Subscription#request(long)}, the events are delivered asynchronously.
+ * Each subscription buffers a bounded number of events, the log is never blocked:
+ * when the buffer is full, new events for that subscription are dropped and counted.
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * RequestEvent event = container.getRequestEvents()
+ *         .awaitEvent(e -> e.getUrl().equals("/callback"), Duration.ofSeconds(5));
+ * }</pre>
+ */
+public class RequestEventStream implements Consumer<OutputFrame> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestEventStream.class);
+    private static final String REQUEST_RECEIVED = "Request received:";
+    private static final Pattern REQUEST_LINE = Pattern.compile("^\\s*(\\S+) - ([A-Z]+) (\\S+)\\s*$", Pattern.MULTILINE);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService DELIVERY = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "wiremock-request-events-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int bufferSize;
+    private final CopyOnWriteArrayList<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private boolean awaitingRequestLine = false;
+
+    /**
+     * Creates the stream.
+     * @param bufferSize Maximum number of undelivered events per subscription
+     */
+    public RequestEventStream(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive, got " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Subscribes to the events served after the subscription.
+     * @param subscriber Subscriber, receives {@link Subscriber#onSubscribe(Subscription)} before any event
+     * @return Subscription
+     */
+    public Subscription subscribe(Subscriber subscriber) {
+        BufferedSubscription subscription = new BufferedSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Waits for an event matching the predicate. Only the events served after the call are considered.
+     * @param predicate Event predicate
+     * @param timeout Maximum time to wait
+     * @return Matching event
+     * @throws AssertionError no matching event within the timeout
+     * @throws InterruptedException interrupted while waiting
+     */
+    public RequestEvent awaitEvent(Predicate<RequestEvent> predicate, Duration timeout) throws InterruptedException {
+        final CountDownLatch matched = new CountDownLatch(1);
+        final AtomicReference<RequestEvent> result = new AtomicReference<>();
+        Subscription subscription = subscribe(new Subscriber() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(RequestEvent event) {
+                if (predicate.test(event) && result.compareAndSet(null, event)) {
+                    matched.countDown();
+                }
+            }
+        });
+        try {
+            if (!matched.await(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new AssertionError("No matching request was received within " + timeout);
+            }
+            return result.get();
+        } finally {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Parses a container log line.
+     * WireMock prints {@code Request received:} followed by {@code <client> - <METHOD> <url>},
+     * either in the same frame or in the next one.
+     * @param frame Log frame
+     */
+    @Override
+    public void accept(OutputFrame frame) {
+        final String text = frame.getUtf8String();
+        if (text == null || text.trim().isEmpty()) {
+            return;
+        }
+        final int received = text.indexOf(REQUEST_RECEIVED);
+        final String candidate;
+        if (received >= 0) {
+            candidate = text.substring(received + REQUEST_RECEIVED.length());
+            awaitingRequestLine = true;
+        } else if (awaitingRequestLine) {
+            candidate = text;
+        } else {
+            return;
+        }
+        final Matcher matcher = REQUEST_LINE.matcher(candidate);
+        if (matcher.find()) {
+            awaitingRequestLine = false;
+            publish(new RequestEvent(matcher.group(1), matcher.group(2), matcher.group(3), Instant.now()));
+        }
+    }
+
+    private void publish(RequestEvent event) {
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * Receiver of the request events.
+     */
+    public interface Subscriber {
+
+        /**
+         * Called once on subscription, before any event.
+         * @param subscription Subscription for requesting events
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called for each event, at most as many times as requested.
+         * Calls are serialized per subscription.
+         * @param event Request event
+         */
+        void onNext(RequestEvent event);
+    }
+
+    /**
+     * Demand control of a subscriber.
+     */
+    public interface Subscription {
+
+        /**
+         * Requests more events.
+         * @param n Number of additional events, {@link Long#MAX_VALUE} for unbounded
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery and releases the buffer.
+         */
+        void cancel();
+
+        /**
+         * Get the number of events dropped because the buffer was full.
+         * @return Number of dropped events
+         */
+        long getDroppedEvents();
+    }
+
+    private final class BufferedSubscription implements Subscription, Runnable {
+        private final Subscriber subscriber;
+        private final Queue<RequestEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        BufferedSubscription(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(RequestEvent event) {
+            if (!buffer.offer(event)) {
+                dropped.incrementAndGet();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                throw new IllegalArgumentException("Requested number of events must be positive, got " + n);
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                subscriptions.remove(this);
+                buffer.clear();
+            }
+        }
+
+        @Override
+        public long getDroppedEvents() {
+            return dropped.get();
+        }
+
+        private void scheduleDrain() {
+            // Only one drain runs at a time, further signals are picked up by the running one
+            if (pendingDrains.getAndIncrement() == 0) {
+                DELIVERY.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                while (!cancelled.get() && demand.get() > 0) {
+                    RequestEvent event = buffer.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    try {
+                        subscriber.onNext(event);
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Request event subscriber failed, cancelling the subscription", e);
+                        cancel();
+                    }
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonParser;
+import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonToken;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the WireMock request journal without loading it into memory.
+ * The {@code /__admin/requests} response is parsed incrementally, one entry at a time, while the stream is consumed.
+ * <p>
+ * WireMock returns the newest requests first, and {@code limit} keeps the newest ones,
+ * so the journal cannot be paged from the oldest requests on.
+ * To follow the journal while the traffic goes on, use {@link #readNewRequests()},
+ * which reads a snapshot of the requests logged since the previous read in a single response.
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * try (Stream<LoggedRequest> requests = container.admin().requestJournal().stream()) {
+ *     long errors = requests.filter(r -> r.getResponseStatus() >= 500).count();
+ * }
+ * }</pre>
+ */
+public class RequestJournalReader {
+
+    private final WireMockAdminClient client;
+    private Instant since;
+    private int limit = 0;
+    /** IDs of the requests logged in the last millisecond of the previous read */
+    private final Set<String> lastReadIds = new HashSet<>();
+    private long lastReadMillis = Long.MIN_VALUE;
+
+    /*package*/ RequestJournalReader(WireMockAdminClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Reads only the requests logged after the instant.
+     * @param since Start of the time range, exclusive
+     * @return this instance
+     */
+    public RequestJournalReader since(Instant since) {
+        this.since = since;
+        return this;
+    }
+
+    /**
+     * Limits the number of the requests. WireMock keeps the newest ones.
+     * The limit applies only to {@link #stream()}, it cannot be combined with {@link #readNewRequests()}.
+     * @param limit Maximum number of requests, {@code 0} for no limit
+     * @return this instance
+     */
+    public RequestJournalReader limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative, got " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Streams the requests, newest first.
+     * The stream holds an open connection and must be closed.
+     * @return Lazily parsed requests
+     */
+    public Stream<LoggedRequest> stream() {
+        return stream(since);
+    }
+
+    /**
+     * Reads the requests logged since the previous read, or since the configured instant for the first read.
+     * This is a single snapshot of all new requests, not a page of a fixed size:
+     * WireMock sends them in one response, which is parsed incrementally.
+     * @return Stream of the new requests, newest first. Must be closed
+     * @throws IllegalStateException a limit is set, it would drop the older new requests
+     */
+    public synchronized Stream<LoggedRequest> readNewRequests() {
+        if (limit > 0) {
+            throw new IllegalStateException("Reading the new requests cannot be combined with a limit of " + limit
+                    + ", the older new requests would be lost");
+        }
+        // WireMock filters by milliseconds, so re-read the last millisecond and drop the requests seen already
+        final Instant readSince = lastReadMillis == Long.MIN_VALUE ? since : Instant.ofEpochMilli(lastReadMillis - 1);
+        final Set<String> seen = new HashSet<>(lastReadIds);
+        final boolean[] first = {true};
+        return stream(readSince)
+                .filter(request -> !seen.contains(request.getId()))
+                .peek(request -> {
+                    // The first request is the newest one, it becomes the cursor
+                    long millis = request.getLoggedDate().toEpochMilli();
+                    synchronized (this) {
+                        if (first[0]) {
+                            first[0] = false;
+                            lastReadMillis = millis;
+                            lastReadIds.clear();
+                        }
+                        if (millis == lastReadMillis) {
+                            lastReadIds.add(request.getId());
+                        }
+                    }
+                });
+    }
+
+    private Stream<LoggedRequest> stream(Instant from) {
+        final StringBuilder path = new StringBuilder("/__admin/requests");
+        char separator = '?';
+        if (from != null) {
+            path.append(separator).append("since=").append(WireMockAdminClient.encode(from.toString()));
+            separator = '&';
+        }
+        if (limit > 0) {
+            path.append(separator).append("limit=").append(limit);
+        }
+        final InputStream body = client.open("GET", path.toString());
+        try {
+            final ServeEventIterator iterator = new ServeEventIterator(WireMockAdminClient.MAPPER.getFactory().createParser(body));
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(iterator::close);
+        } catch (IOException e) {
+            closeQuietly(body);
+            throw new UncheckedIOException("Cannot parse the request journal", e);
+        }
+    }
+
+    private static void closeQuietly(InputStream is) {
+        try {
+            is.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    /**
+     * Iterates over the {@code requests} array, reading one serve event at a time.
+     */
+    private static final class ServeEventIterator implements Iterator<LoggedRequest> {
+        private final JsonParser parser;
+        private boolean inArray = false;
+        private LoggedRequest next;
+        private boolean finished = false;
+
+        ServeEventIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                next = readNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public LoggedRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LoggedRequest result = next;
+            next = null;
+            return result;
+        }
+
+        private LoggedRequest readNext() {
+            try {
+                if (!inArray && !seekRequestsArray()) {
+                    finish();
+                    return null;
+                }
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    finish();
+                    return null;
+                }
+                JsonNode serveEvent = parser.readValueAsTree();
+                return LoggedRequest.fromServeEvent(serveEvent);
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Cannot parse the request journal", e);
+            }
+        }
+
+        private boolean seekRequestsArray() throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                token = parser.nextToken();
+                if ("requests".equals(field) && token == JsonToken.START_ARRAY) {
+                    inArray = true;
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+
+        private void finish() {
+            finished = true;
+            close();
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Pattern of requests for server-side verification, in the WireMock request matching format.
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * container.verify(50_000, RequestPattern.get().withUrlPath("/orders").withHeader("Accept", "application/json"));
+ * }</pre>
+ */
+public final class RequestPattern {
+
+    private final ObjectNode json;
+
+    private RequestPattern(String method) {
+        json = WireMockAdminClient.MAPPER.createObjectNode().put("method", method);
+    }
+
+    public static RequestPattern forMethod(String method) {
+        return new RequestPattern(method);
+    }
+
+    public static RequestPattern anyMethod() {
+        return new RequestPattern("ANY");
+    }
+
+    public static RequestPattern get() {
+        return new RequestPattern("GET");
+    }
+
+    public static RequestPattern post() {
+        return new RequestPattern("POST");
+    }
+
+    public static RequestPattern put() {
+        return new RequestPattern("PUT");
+    }
+
+    public static RequestPattern delete() {
+        return new RequestPattern("DELETE");
+    }
+
+    /**
+     * Matches the path and the query exactly.
+     * @param url URL, e.g. {@code /orders?status=new}
+     * @return this instance
+     */
+    public RequestPattern withUrl(String url) {
+        return withUrlField("url", url);
+    }
+
+    /**
+     * Matches the path exactly, regardless of the query.
+     * @param path URL path
+     * @return this instance
+     */
+    public RequestPattern withUrlPath(String path) {
+        return withUrlField("urlPath", path);
+    }
+
+    /**
+     * Matches the path and the query with a regular expression.
+     * @param regex Regular expression
+     * @return this instance
+     */
+    public RequestPattern withUrlMatching(String regex) {
+        return withUrlField("urlPattern", regex);
+    }
+
+    /**
+     * Matches the path with a regular expression, regardless of the query.
+     * @param regex Regular expression
+     * @return this instance
+     */
+    public RequestPattern withUrlPathMatching(String regex) {
+        return withUrlField("urlPathPattern", regex);
+    }
+
+    public RequestPattern withHeader(String name, String value) {
+        json.withObjectProperty("headers").putObject(name).put("equalTo", value);
+        return this;
+    }
+
+    public RequestPattern withHeaderMatching(String name, String regex) {
+        json.withObjectProperty("headers").putObject(name).put("matches", regex);
+        return this;
+    }
+
+    public RequestPattern withQueryParam(String name, String value) {
+        json.withObjectProperty("queryParameters").putObject(name).put("equalTo", value);
+        return this;
+    }
+
+    public RequestPattern withRequestBodyContaining(String value) {
+        json.withArrayProperty("bodyPatterns").addObject().put("contains", value);
+        return this;
+    }
+
+    /**
+     * Matches the body as JSON, ignoring the formatting.
+     * @param value Expected JSON
+     * @return this instance
+     */
+    public RequestPattern withRequestBodyEqualToJson(String value) {
+        json.withArrayProperty("bodyPatterns").addObject().put("equalToJson", value);
+        return this;
+    }
+
+    private RequestPattern withUrlField(String field, String value) {
+        json.remove("url");
+        json.remove("urlPath");
+        json.remove("urlPattern");
+        json.remove("urlPathPattern");
+        json.put(field, value);
+        return this;
+    }
+
+    /**
+     * Get the pattern in the WireMock JSON format.
+     * @return JSON of the request pattern
+     */
+    public String toJson() {
+        return json.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
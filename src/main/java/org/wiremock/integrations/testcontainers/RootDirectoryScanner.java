@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+/**
+ * Scans fixture directories in parallel and builds a {@link FixtureManifest}.
+ * Directories are listed and files are digested as fork-join tasks, so the scan scales with the number of cores.
+ * Files may also be left undigested, then the digest is computed on the first use of the entry.
+ * Symbolic links are followed, links creating a loop are reported as errors.
+ */
+/*package*/ final class RootDirectoryScanner {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private RootDirectoryScanner() {
+        // Utility class
+    }
+
+    /**
+     * Scans the directory recursively and digests all files.
+     * @param directory Directory to scan
+     * @return Manifest of all regular files in the directory. Empty if the directory does not exist
+     * @throws IllegalArgumentException some files cannot be read. The message lists all of them
+     */
+    public static FixtureManifest scan(Path directory) {
+        return scan(directory, true);
+    }
+
+    /**
+     * Scans the directory recursively.
+     * @param directory Directory to scan
+     * @param digest Whether to digest the files during the scan
+     * @return Manifest of all regular files in the directory. Empty if the directory does not exist
+     * @throws IllegalArgumentException some files cannot be read. The message lists all of them
+     */
+    public static FixtureManifest scan(Path directory, boolean digest) {
+        if (!Files.isDirectory(directory)) {
+            return new FixtureManifest(directory, Collections.emptyList(), Collections.emptyMap());
+        }
+
+        final Path root;
+        try {
+            root = directory.toRealPath();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot resolve directory " + directory, e);
+        }
+
+        final ScanResult result = new ScanResult(digest);
+        POOL.invoke(new DirectoryTask(directory, directory, Collections.singleton(root), result));
+        final Queue<String> errors = result.errors;
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Cannot scan " + directory + ", " + errors.size() + " file(s) are invalid:"
+                    + errors.stream().sorted().map(e -> "\n - " + e).collect(Collectors.joining()));
+        }
+        return new FixtureManifest(directory, result.entries, result.directoryTimestamps);
+    }
+
+    private static final class ScanResult {
+        final boolean digest;
+        final Queue<FixtureManifest.Entry> entries = new ConcurrentLinkedQueue<>();
+        final Map<Path, FileTime> directoryTimestamps = new ConcurrentHashMap<>();
+        final Queue<String> errors = new ConcurrentLinkedQueue<>();
+
+        ScanResult(boolean digest) {
+            this.digest = digest;
+        }
+    }
+
+    private static final class DirectoryTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Path root;
+        private final Path directory;
+        /** Real paths of the directory and its parents, to detect loops */
+        private final Set<Path> ancestors;
+        private final ScanResult result;
+
+        DirectoryTask(Path root, Path directory, Set<Path> ancestors, ScanResult result) {
+            this.root = root;
+            this.directory = directory;
+            this.ancestors = ancestors;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            final Queue<String> errors = result.errors;
+            final List<ForkJoinTask<?>> subtasks = new ArrayList<>();
+            try {
+                result.directoryTimestamps.put(directory, Files.getLastModifiedTime(directory));
+            } catch (IOException e) {
+                errors.add(directory + ": cannot read attributes (" + e + ")");
+                return;
+            }
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+                for (Path child : children) {
+                    final BasicFileAttributes attributes;
+                    final Path realPath;
+                    try {
+                        attributes = Files.readAttributes(child, BasicFileAttributes.class);
+                        realPath = child.toRealPath();
+                    } catch (IOException e) {
+                        errors.add(child + ": cannot resolve file, possibly a broken link (" + e + ")");
+                        continue;
+                    }
+
+                    if (attributes.isDirectory()) {
+                        if (ancestors.contains(realPath)) {
+                            errors.add(child + ": symbolic link loop to " + realPath);
+                            continue;
+                        }
+                        Set<Path> childAncestors = new HashSet<>(ancestors);
+                        childAncestors.add(realPath);
+                        subtasks.add(new DirectoryTask(root, child, childAncestors, result));
+                    } else if (attributes.isRegularFile()) {
+                        subtasks.add(new FileTask(root, child, attributes, result));
+                    }
+                }
+            } catch (IOException e) {
+                errors.add(directory + ": cannot list directory (" + e + ")");
+            }
+            invokeAll(subtasks);
+        }
+    }
+
+    private static final class FileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Path root;
+        private final Path file;
+        private final BasicFileAttributes attributes;
+        private final ScanResult result;
+
+        FileTask(Path root, Path file, BasicFileAttributes attributes, ScanResult result) {
+            this.root = root;
+            this.file = file;
+            this.attributes = attributes;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                String relativePath = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                result.entries.add(new FixtureManifest.Entry(relativePath, file,
+                        attributes.size(), attributes.lastModifiedTime(), result.digest ? ContentDigest.of(file) : null));
+            } catch (IOException e) {
+                result.errors.add(file + ": cannot read file (" + e + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event with the {@link StartupReport} of a WireMock container.
+ * Loaded reflectively by {@link StartupRecorder#emit(StartupReport)} only when
+ * {@code jdk.jfr.Event} exists, so the class is never linked on JVMs without JFR.
+ */
+@Name("org.wiremock.testcontainers.ContainerStartup")
+@Label("WireMock Container Startup")
+@Category({"WireMock", "Testcontainers"})
+@Description("Timings of the WireMock container startup phases")
+/*package*/ final class StartupEvent extends Event {
+
+    @Label("Image")
+    String image;
+
+    @Label("Configuration")
+    @Timespan(Timespan.NANOSECONDS)
+    long configuration;
+
+    @Label("Image Resolution")
+    @Timespan(Timespan.NANOSECONDS)
+    long imageResolution;
+
+    @Label("Container Creation")
+    @Timespan(Timespan.NANOSECONDS)
+    long containerCreation;
+
+    @Label("File Transfer")
+    @Timespan(Timespan.NANOSECONDS)
+    long fileTransfer;
+
+    @Label("Transfers")
+    int transfers;
+
+    @Label("Transferred Files")
+    int transferredFiles;
+
+    @Label("Transferred Bytes")
+    @DataAmount
+    long transferredBytes;
+
+    @Label("Process Start")
+    @Timespan(Timespan.NANOSECONDS)
+    long processStart;
+
+    @Label("Readiness")
+    @Timespan(Timespan.NANOSECONDS)
+    long readiness;
+
+    @Label("Total")
+    @Timespan(Timespan.NANOSECONDS)
+    long total;
+
+    static void emit(StartupReport report) {
+        StartupEvent event = new StartupEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.image = report.getImageName();
+        event.configuration = report.getConfiguration().toNanos();
+        event.imageResolution = report.getImageResolution().toNanos();
+        event.containerCreation = report.getContainerCreation().toNanos();
+        event.fileTransfer = report.getFileTransfer().toNanos();
+        event.transfers = report.getTransfers();
+        event.transferredFiles = report.getTransferredFiles();
+        event.transferredBytes = report.getTransferredBytes();
+        event.processStart = report.getProcessStart().toNanos();
+        event.readiness = report.getReadiness().toNanos();
+        event.total = report.getTotal().toNanos();
+        event.commit();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.testcontainers.images.builder.Transferable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Checksum;
+
+/**
+ * Records timestamps of the startup phases and produces the {@link StartupReport}.
+ * Timestamps are taken from {@link System#nanoTime()}, zero means the phase was not reached.
+ */
+/*package*/ final class StartupRecorder {
+
+    private static final Method JFR_EMITTER = findJfrEmitter();
+
+    private volatile long configureStarted;
+    private volatile long configureFinished;
+    private volatile long createStarted;
+    private final AtomicLong transferStarted = new AtomicLong();
+    private volatile long transferFinished;
+    private volatile long processStarted;
+    private volatile long readinessStarted;
+    private volatile long readinessFinished;
+    private final AtomicInteger transfers = new AtomicInteger();
+    private final AtomicInteger transferredFiles = new AtomicInteger();
+    private final AtomicLong transferredBytes = new AtomicLong();
+
+    public void configureStarted() {
+        configureStarted = System.nanoTime();
+    }
+
+    public void configureFinished() {
+        configureFinished = System.nanoTime();
+    }
+
+    /**
+     * Marks the container creation. Called again for every startup attempt
+     */
+    public void createStarted() {
+        createStarted = System.nanoTime();
+        transferStarted.set(0);
+        transferFinished = 0;
+        transfers.set(0);
+        transferredFiles.set(0);
+        transferredBytes.set(0);
+    }
+
+    public void processStarted() {
+        processStarted = System.nanoTime();
+    }
+
+    public void readinessStarted() {
+        readinessStarted = System.nanoTime();
+    }
+
+    public void readinessFinished() {
+        readinessFinished = System.nanoTime();
+    }
+
+    /**
+     * Wraps the transferable, so that its transfer is recorded.
+     * @param transferable Transferable to wrap
+     * @param files Number of files within the transferable
+     * @return Recording transferable
+     */
+    public Transferable record(Transferable transferable, int files) {
+        return new RecordingTransferable(transferable, files);
+    }
+
+    public StartupReport toReport(String imageName) {
+        final long createFinished = transferStarted.get() != 0 ? transferStarted.get() : processStarted;
+        final long transferEnd = transferStarted.get() != 0 ? transferFinished : createFinished;
+        return new StartupReport(imageName,
+                between(configureStarted, configureFinished),
+                between(configureFinished, createStarted),
+                between(createStarted, createFinished),
+                between(createFinished, transferEnd),
+                between(transferEnd, processStarted),
+                between(readinessStarted, readinessFinished),
+                transfers.get(),
+                transferredFiles.get(),
+                transferredBytes.get());
+    }
+
+    /**
+     * Emits the report as a JFR event, if JFR is available in the JVM.
+     * @param report Report to emit
+     */
+    public static void emit(StartupReport report) {
+        if (JFR_EMITTER == null) {
+            return;
+        }
+        try {
+            JFR_EMITTER.invoke(null, report);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to emit the JFR startup event", e);
+        }
+    }
+
+    private static Duration between(long from, long to) {
+        return from == 0 || to == 0 || to < from ? Duration.ZERO : Duration.ofNanos(to - from);
+    }
+
+    private static Method findJfrEmitter() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return Class.forName("org.wiremock.integrations.testcontainers.StartupEvent")
+                    .getDeclaredMethod("emit", StartupReport.class);
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private final class RecordingTransferable implements Transferable {
+        private final Transferable delegate;
+        private final int files;
+
+        RecordingTransferable(Transferable delegate, int files) {
+            this.delegate = delegate;
+            this.files = files;
+        }
+
+        @Override
+        public long getSize() {
+            return delegate.getSize();
+        }
+
+        @Override
+        public int getFileMode() {
+            return delegate.getFileMode();
+        }
+
+        @Override
+        public void transferTo(TarArchiveOutputStream tarArchiveOutputStream, String destination) {
+            transferStarted.compareAndSet(0, System.nanoTime());
+            delegate.transferTo(tarArchiveOutputStream, destination);
+            transfers.incrementAndGet();
+            transferredFiles.addAndGet(files);
+            transferredBytes.addAndGet(delegate.getSize());
+            transferFinished = System.nanoTime();
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return delegate.getBytes();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public void updateChecksum(Checksum checksum) {
+            delegate.updateChecksum(checksum);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.time.Duration;
+
+/**
+ * Timings of the WireMock container startup phases.
+ * Available from {@link WireMockContainer#getStartupReport()} once the container is started.
+ */
+public final class StartupReport {
+
+    private final String imageName;
+    private final Duration configuration;
+    private final Duration imageResolution;
+    private final Duration containerCreation;
+    private final Duration fileTransfer;
+    private final Duration processStart;
+    private final Duration readiness;
+    private final int transfers;
+    private final int transferredFiles;
+    private final long transferredBytes;
+
+    /*package*/ StartupReport(String imageName, Duration configuration, Duration imageResolution,
+                              Duration containerCreation, Duration fileTransfer, Duration processStart,
+                              Duration readiness, int transfers, int transferredFiles, long transferredBytes) {
+        this.imageName = imageName;
+        this.configuration = configuration;
+        this.imageResolution = imageResolution;
+        this.containerCreation = containerCreation;
+        this.fileTransfer = fileTransfer;
+        this.processStart = processStart;
+        this.readiness = readiness;
+        this.transfers = transfers;
+        this.transferredFiles = transferredFiles;
+        this.transferredBytes = transferredBytes;
+    }
+
+    public String getImageName() {
+        return imageName;
+    }
+
+    /**
+     * Get time spent in the container configuration, including the root directory scan
+     * and building the prebaked image, if enabled.
+     * @return Configuration time
+     */
+    public Duration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Get time spent resolving the image, including pulling it if needed.
+     * @return Image resolution time
+     */
+    public Duration getImageResolution() {
+        return imageResolution;
+    }
+
+    /**
+     * Get time spent creating the container.
+     * If no files are transferred, it also includes starting the container process.
+     * @return Container creation time
+     */
+    public Duration getContainerCreation() {
+        return containerCreation;
+    }
+
+    /**
+     * Get time spent copying mappings, files and extensions into the container.
+     * @return File transfer time
+     */
+    public Duration getFileTransfer() {
+        return fileTransfer;
+    }
+
+    /**
+     * Get time spent starting the container process until the ports are mapped.
+     * @return Process start time
+     */
+    public Duration getProcessStart() {
+        return processStart;
+    }
+
+    /**
+     * Get time spent waiting for WireMock to become ready.
+     * @return Readiness time
+     */
+    public Duration getReadiness() {
+        return readiness;
+    }
+
+    /**
+     * Get number of copy operations, one per file unless the bundled file transfer is enabled.
+     * @return Number of copy operations
+     */
+    public int getTransfers() {
+        return transfers;
+    }
+
+    public int getTransferredFiles() {
+        return transferredFiles;
+    }
+
+    public long getTransferredBytes() {
+        return transferredBytes;
+    }
+
+    /**
+     * Get total time of all phases.
+     * @return Total startup time
+     */
+    public Duration getTotal() {
+        return configuration.plus(imageResolution).plus(containerCreation).plus(fileTransfer)
+                .plus(processStart).plus(readiness);
+    }
+
+    @Override
+    public String toString() {
+        return "StartupReport{" +
+                "image='" + imageName + '\'' +
+                ", total=" + getTotal().toMillis() + "ms" +
+                ", configuration=" + configuration.toMillis() + "ms" +
+                ", imageResolution=" + imageResolution.toMillis() + "ms" +
+                ", containerCreation=" + containerCreation.toMillis() + "ms" +
+                ", fileTransfer=" + fileTransfer.toMillis() + "ms" +
+                " (" + transferredFiles + " files, " + transferredBytes + " bytes in " + transfers + " transfers)" +
+                ", processStart=" + processStart.toMillis() + "ms" +
+                ", readiness=" + readiness.toMillis() + "ms" +
+                '}';
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes stub mappings to a running container in batches through {@code /__admin/mappings/import}.
+ * Batches are sent over parallel connections, stubs with the same ID are overwritten.
+ * Keep the parallelism within {@code http.maxConnections} (5 by default), so that all connections are kept alive.
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * StubImporter.Report report = container.admin().stubImporter()
+ *         .withBatchSize(500)
+ *         .withParallelism(4)
+ *         .importStubs(stubs);
+ * }</pre>
+ */
+public class StubImporter {
+
+    private static final String IMPORT_OPTIONS = "\"importOptions\":{\"duplicatePolicy\":\"OVERWRITE\",\"deleteAllNotInImport\":false}";
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final WireMockAdminClient client;
+    private int batchSize = 1000;
+    private int parallelism = 4;
+
+    /*package*/ StubImporter(WireMockAdminClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Sets the maximum number of stubs per request.
+     * @param batchSize Batch size, 1000 by default
+     * @return this instance
+     */
+    public StubImporter withBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the number of batches sent concurrently.
+     * @param parallelism Number of parallel connections, 4 by default
+     * @return this instance
+     */
+    public StubImporter withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Imports the stubs and waits for all batches.
+     * @param stubs Stub mappings in the WireMock JSON format, one stub per element
+     * @return Report with the batch latencies
+     * @throws IllegalStateException a batch is rejected by WireMock
+     */
+    public Report importStubs(Collection<String> stubs) {
+        try {
+            return importStubsAsync(stubs).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Imports the stubs in the background, e.g. in parallel with other fixture setup.
+     * If a batch fails, the batches which have not been sent yet are skipped.
+     * @param stubs Stub mappings in the WireMock JSON format, one stub per element
+     * @return Future of the report with the batch latencies
+     */
+    public CompletableFuture<Report> importStubsAsync(Collection<String> stubs) {
+        final List<String> stubList = stubs instanceof List ? (List<String>) stubs : new ArrayList<>(stubs);
+        final int batchCount = (stubList.size() + batchSize - 1) / batchSize;
+        if (batchCount == 0) {
+            return CompletableFuture.completedFuture(new Report(0, Collections.emptyList(), Duration.ZERO));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, batchCount), r -> {
+            Thread thread = new Thread(r, "wiremock-stub-import-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long startedAt = System.nanoTime();
+        final Duration[] latencies = new Duration[batchCount];
+        final CompletableFuture<Report> result = new CompletableFuture<>();
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int i = 0; i < batchCount; i++) {
+            final int index = i;
+            batches.add(CompletableFuture.runAsync(() -> {
+                // Fail fast: the first failure skips the queued batches
+                if (failed.get()) {
+                    return;
+                }
+                try {
+                    // The body is built by the task, so that only the batches in flight are held in memory
+                    final String body = toBatch(stubList.subList(index * batchSize, Math.min((index + 1) * batchSize, stubList.size())));
+                    final long batchStartedAt = System.nanoTime();
+                    client.send("POST", "/__admin/mappings/import", body);
+                    latencies[index] = Duration.ofNanos(System.nanoTime() - batchStartedAt);
+                } catch (Throwable e) {
+                    if (failed.compareAndSet(false, true)) {
+                        result.completeExceptionally(e);
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) -> {
+            executor.shutdown();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else if (!failed.get()) {
+                result.complete(new Report(stubList.size(), Arrays.asList(latencies), Duration.ofNanos(System.nanoTime() - startedAt)));
+            }
+        });
+        return result;
+    }
+
+    private static String toBatch(List<String> stubs) {
+        final StringBuilder body = new StringBuilder("{\"mappings\":[");
+        for (int i = 0; i < stubs.size(); i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(stubs.get(i));
+        }
+        return body.append("],").append(IMPORT_OPTIONS).append('}').toString();
+    }
+
+    /**
+     * Result of a stub import.
+     */
+    public static final class Report {
+        private final int stubCount;
+        private final List<Duration> batchLatencies;
+        private final Duration totalTime;
+
+        private Report(int stubCount, List<Duration> batchLatencies, Duration totalTime) {
+            this.stubCount = stubCount;
+            this.batchLatencies = Collections.unmodifiableList(new ArrayList<>(batchLatencies));
+            this.totalTime = totalTime;
+        }
+
+        public int getStubCount() {
+            return stubCount;
+        }
+
+        /**
+         * Get the latency of each batch request.
+         * @return Latencies in the batch order
+         */
+        public List<Duration> getBatchLatencies() {
+            return batchLatencies;
+        }
+
+        public Duration getMaxBatchLatency() {
+            return batchLatencies.stream().max(Duration::compareTo).orElse(Duration.ZERO);
+        }
+
+        /**
+         * Get the wall-clock time of the whole import.
+         * @return Total time
+         */
+        public Duration getTotalTime() {
+            return totalTime;
+        }
+
+        @Override
+        public String toString() {
+            return "Imported " + stubCount + " stubs in " + batchLatencies.size() + " batches within "
+                    + totalTime.toMillis() + "ms, max batch latency " + getMaxBatchLatency().toMillis() + "ms";
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+/**
+ * Host-side validation of the mappings before the container starts, see {@link WireMockContainer#withStubValidation(StubValidation)}.
+ */
+public enum StubValidation {
+    /** Mappings are not validated */
+    DISABLED,
+    /** Invalid mappings are logged as warnings, and the container starts anyway */
+    LENIENT,
+    /** Invalid mappings fail the container startup */
+    STRICT
+}
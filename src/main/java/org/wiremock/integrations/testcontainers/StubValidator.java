@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonLocation;
+import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonProcessingException;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.wiremock.integrations.testcontainers.WireMockAdminClient.MAPPER;
+
+/**
+ * Validates the mapping files in parallel: the content must be a JSON object with a {@code request} object,
+ * or a {@code {"mappings": [...]}} document of such objects.
+ * The checks catch the errors that make WireMock skip a stub or fail at startup, the matchers are not validated.
+ */
+/*package*/ final class StubValidator {
+
+    private static final String MAPPINGS = "mappings";
+
+    private StubValidator() {
+        // Utility class
+    }
+
+    /**
+     * Validates the mapping files.
+     * @param mappings Mapping files
+     * @return Errors in the {@code source:line:column: message} format, empty if all mappings are valid
+     */
+    public static List<String> validate(Collection<ContainerFile> mappings) {
+        return mappings.parallelStream()
+                .map(StubValidator::validate)
+                .filter(Objects::nonNull)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static String validate(ContainerFile mapping) {
+        final String source = describe(mapping);
+        final JsonNode root;
+        try {
+            Transferable content = mapping.getContent();
+            if (content instanceof MountableFile) {
+                root = MAPPER.readTree(Files.readAllBytes(Paths.get(((MountableFile) content).getResolvedPath())));
+            } else if (content instanceof UrlTransferable) {
+                try (InputStream is = MappingsMerger.openStream(content)) {
+                    root = MAPPER.readTree(is);
+                }
+            } else {
+                root = MAPPER.readTree(content.getBytes());
+            }
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            return location == null
+                    ? source + ": " + e.getOriginalMessage()
+                    : source + ":" + location.getLineNr() + ":" + location.getColumnNr() + ": " + e.getOriginalMessage();
+        } catch (IOException e) {
+            return source + ": cannot be read: " + e.getMessage();
+        }
+
+        if (root == null || !root.isObject()) {
+            return source + ":1:1: mapping must be a JSON object";
+        }
+        if (!root.has(MAPPINGS)) {
+            return validateStub(root, source);
+        }
+        JsonNode stubs = root.get(MAPPINGS);
+        if (!stubs.isArray()) {
+            return source + ": '" + MAPPINGS + "' must be an array";
+        }
+        for (int i = 0; i < stubs.size(); i++) {
+            String error = validateStub(stubs.get(i), source + " (" + MAPPINGS + "[" + i + "])");
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    private static String validateStub(JsonNode stub, String source) {
+        if (!stub.isObject()) {
+            return source + ": stub must be a JSON object";
+        }
+        if (!stub.path("request").isObject()) {
+            return source + ": stub must have a 'request' object";
+        }
+        if (stub.has("response") && !stub.get("response").isObject()) {
+            return source + ": 'response' must be a JSON object";
+        }
+        return null;
+    }
+
+    private static String describe(ContainerFile mapping) {
+        Transferable content = mapping.getContent();
+        if (content instanceof MountableFile) {
+            return ((MountableFile) content).getResolvedPath();
+        }
+        if (content instanceof UrlTransferable) {
+            return content.getDescription();
+        }
+        return mapping.getPath();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.model.HostConfig;
+import org.testcontainers.utility.MountableFile;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Places the WireMock mappings and files directories on tmpfs, so that fixtures are served from memory.
+ * A tmpfs is mounted empty when the container starts and hides the files copied to its path before,
+ * so the fixtures are copied to a staging directory, and the entrypoint copies them into tmpfs before WireMock starts.
+ */
+/*package*/ final class TmpfsStorage {
+
+    /*package*/ static final String STAGING_DIR = "/var/wiremock/staging/";
+    // Room for the mappings saved through the admin API and for the copy itself
+    private static final long HEADROOM = 16 * 1024 * 1024;
+
+    private TmpfsStorage() {
+        // Utility class
+    }
+
+    /**
+     * Moves the files within the directories to the staging directory.
+     * @param files Files to be copied into the container
+     * @param workingDir Parent of the directories, e.g. {@code /home/wiremock/}
+     * @param dirs Directories to place on tmpfs, relative to the working directory, e.g. {@code mappings/}
+     * @return Files with the staged paths
+     */
+    public static List<ContainerFile> stage(List<ContainerFile> files, String workingDir, List<String> dirs) {
+        final List<ContainerFile> result = new ArrayList<>(files.size());
+        for (ContainerFile file : files) {
+            String path = file.getPath();
+            boolean isStaged = dirs.stream().anyMatch(dir -> path.startsWith(workingDir + dir));
+            result.add(isStaged
+                    ? new ContainerFile(STAGING_DIR + path.substring(workingDir.length()), file::getDigest, file.getContent())
+                    : file);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the tmpfs size for the staged files, with headroom for runtime writes.
+     * @param files Files to be copied into the container
+     * @return Size in bytes
+     */
+    public static long sizeFor(List<ContainerFile> files) {
+        long size = 0;
+        for (ContainerFile file : files) {
+            if (!file.getPath().startsWith(STAGING_DIR)) {
+                continue;
+            }
+            // MountableFile reports 0 for directories
+            size += file.getContent() instanceof MountableFile
+                    ? FileMounts.sizeOf(Paths.get(((MountableFile) file.getContent()).getResolvedPath()))
+                    : file.getContent().getSize();
+        }
+        return size + size / 4 + HEADROOM;
+    }
+
+    /**
+     * Shell statements copying the staged files into tmpfs, run before the image entrypoint.
+     * @param workingDir WireMock working directory
+     * @return Shell statements
+     */
+    public static String setupScript(String workingDir) {
+        return "if [ -d " + STAGING_DIR + " ]; then cp -R " + STAGING_DIR + ". " + workingDir + "; fi;";
+    }
+
+    /**
+     * Mounts tmpfs at the directories, keeping the existing tmpfs mounts.
+     * @param hostConfig Host config of the container to create
+     * @param workingDir Parent of the directories
+     * @param dirs Directories relative to the working directory
+     * @param size Size of each tmpfs in bytes. It limits the usage, the memory is allocated on writes
+     */
+    public static void mount(HostConfig hostConfig, String workingDir, List<String> dirs, long size) {
+        Map<String, String> tmpFs = new HashMap<>();
+        if (hostConfig.getTmpFs() != null) {
+            tmpFs.putAll(hostConfig.getTmpFs());
+        }
+        for (String dir : dirs) {
+            String path = workingDir + dir;
+            tmpFs.put(path.endsWith("/") ? path.substring(0, path.length() - 1) : path, "rw,size=" + size);
+        }
+        hostConfig.withTmpFs(tmpFs);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.testcontainers.images.builder.Transferable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.zip.Checksum;
+
+/**
+ * Lazy {@link Transferable} that streams the content from the URL when it is copied to the container.
+ * Nothing is kept in memory between the calls.
+ */
+/*package*/ final class UrlTransferable implements Transferable {
+
+    private final URL url;
+    private long size = -1;
+
+    public UrlTransferable(URL url) {
+        this.url = url;
+    }
+
+    @Override
+    public long getSize() {
+        if (size < 0) {
+            size = readSize();
+        }
+        return size;
+    }
+
+    private long readSize() {
+        try {
+            URLConnection connection = url.openConnection();
+            long contentLength = connection.getContentLengthLong();
+            if (contentLength >= 0) {
+                connection.getInputStream().close();
+                return contentLength;
+            }
+            // Unknown length, count the bytes
+            long count = 0;
+            try (InputStream is = connection.getInputStream()) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    count += read;
+                }
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + url, e);
+        }
+    }
+
+    /*package*/ InputStream openStream() throws IOException {
+        return url.openStream();
+    }
+
+    @Override
+    public void transferTo(TarArchiveOutputStream tarArchiveOutputStream, String destination) {
+        TarArchiveEntry tarEntry = new TarArchiveEntry(destination);
+        tarEntry.setSize(getSize());
+        tarEntry.setMode(getFileMode());
+
+        try (InputStream is = url.openStream()) {
+            tarArchiveOutputStream.putArchiveEntry(tarEntry);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                tarArchiveOutputStream.write(buffer, 0, read);
+            }
+            tarArchiveOutputStream.closeArchiveEntry();
+        } catch (IOException e) {
+            throw new RuntimeException("Can't transfer " + getDescription(), e);
+        }
+    }
+
+    @Override
+    public void updateChecksum(Checksum checksum) {
+        try (InputStream is = url.openStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + url, e);
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return url.toString();
+    }
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testcontainers.utility.ComparableVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Client for the WireMock admin API of a running container.
+ * It uses only the JDK HTTP client: responses are always read to the end, so the connections are kept alive
+ * and reused from the JVM-wide keep-alive cache instead of being opened per call.
+ * The pool size per container is controlled by the {@code http.maxConnections} system property (5 by default).
+ * <p>
+ * Stub mappings are passed as JSON in the WireMock format.
+ * Failed calls throw {@link IllegalStateException} with the HTTP status and the response body,
+ * I/O errors are rethrown as {@link UncheckedIOException}.
+ */
+public class WireMockAdminClient {
+
+    /*package*/ static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String JSON = "application/json";
+    private static final int TIMEOUT_MILLIS = 30_000;
+
+    private final String baseUrl;
+    /** WireMock version of the server, {@code null} if unknown */
+    private final ComparableVersion wireMockVersion;
+
+    /**
+     * Creates the client.
+     * @param baseUrl Base URL of WireMock, e.g. {@code http://localhost:32768}
+     */
+    public WireMockAdminClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    /*package*/ WireMockAdminClient(String baseUrl, ComparableVersion wireMockVersion) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.wireMockVersion = wireMockVersion;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    // Stubs
+
+    /**
+     * Creates a stub mapping.
+     * @param json Stub mapping in the WireMock JSON format
+     * @return ID of the created stub
+     */
+    public UUID createStub(String json) {
+        return UUID.fromString(readTree(send("POST", "/__admin/mappings", json)).path("id").asText());
+    }
+
+    /**
+     * Get a stub mapping.
+     * @param id Stub ID
+     * @return Stub mapping JSON, or empty if there is no such stub
+     */
+    public Optional<String> getStub(UUID id) {
+        Response response = sendAllowingStatus("GET", "/__admin/mappings/" + id, null, 404);
+        return response.status == 404 ? Optional.empty() : Optional.of(response.body());
+    }
+
+    /**
+     * Get all stub mappings.
+     * @return JSON with the {@code mappings} array and the {@code meta} object
+     */
+    public String getStubs() {
+        return send("GET", "/__admin/mappings", null).body();
+    }
+
+    /**
+     * Get the number of stub mappings without downloading them.
+     * @return Number of stubs
+     */
+    public int getStubCount() {
+        return readTree(send("GET", "/__admin/mappings?limit=1", null)).path("meta").path("total").asInt();
+    }
+
+    public void updateStub(UUID id, String json) {
+        send("PUT", "/__admin/mappings/" + id, json);
+    }
+
+    public void removeStub(UUID id) {
+        send("DELETE", "/__admin/mappings/" + id, null);
+    }
+
+    /**
+     * Removes all stubs, including the ones loaded from files.
+     */
+    public void removeAllStubs() {
+        send("DELETE", "/__admin/mappings", null);
+    }
+
+    /**
+     * Reverts the stubs to the ones loaded from files, i.e. to the container configuration.
+     */
+    public void resetStubs() {
+        send("POST", "/__admin/mappings/reset", null);
+    }
+
+    /**
+     * Get importer for pushing large stub sets in batches.
+     * @return New importer with the default batch size and parallelism
+     * @throws IllegalStateException the stub import API is not supported by the WireMock version of the server
+     */
+    public StubImporter stubImporter() {
+        if (wireMockVersion != null && wireMockVersion.isLessThan(WireMockContainer.WIREMOCK_STUB_IMPORT_MINIMUM_VERSION)) {
+            throw new IllegalStateException("Stub import requires WireMock >= "
+                    + WireMockContainer.WIREMOCK_STUB_IMPORT_MINIMUM_VERSION);
+        }
+        return new StubImporter(this);
+    }
+
+    // Requests
+
+    /**
+     * Get the request journal.
+     * @return JSON with the {@code requests} array
+     */
+    public String getRequests() {
+        return send("GET", "/__admin/requests", null).body();
+    }
+
+    /**
+     * Get reader for streaming large request journals.
+     * @return New journal reader
+     */
+    public RequestJournalReader requestJournal() {
+        return new RequestJournalReader(this);
+    }
+
+    /**
+     * Clears the request journal.
+     */
+    public void resetRequests() {
+        send("DELETE", "/__admin/requests", null);
+    }
+
+    /**
+     * Counts the matching requests within the container.
+     * @param pattern Request pattern
+     * @return Number of matching requests in the journal
+     */
+    public int countRequests(RequestPattern pattern) {
+        return readTree(send("POST", "/__admin/requests/count", pattern.toJson())).path("count").asInt();
+    }
+
+    /**
+     * Finds the matching requests. Prefer {@link #countRequests(RequestPattern)} if the details are not needed.
+     * @param pattern Request pattern
+     * @return Matching requests, without the response status
+     */
+    public List<LoggedRequest> findRequests(RequestPattern pattern) {
+        return toRequests(send("POST", "/__admin/requests/find", pattern.toJson()), true);
+    }
+
+    /**
+     * Finds the requests which did not match any stub.
+     * @return Unmatched requests
+     */
+    public List<LoggedRequest> findUnmatchedRequests() {
+        return toRequests(send("GET", "/__admin/requests/unmatched", null), false);
+    }
+
+    /**
+     * Verifies that the number of matching requests is exactly as expected.
+     * Only the count is transferred from the container.
+     * @param expectedCount Expected number of requests
+     * @param pattern Request pattern
+     * @throws AssertionError the number of requests differs
+     */
+    public void verify(int expectedCount, RequestPattern pattern) {
+        int actual = countRequests(pattern);
+        if (actual != expectedCount) {
+            throw new AssertionError("Expected exactly " + expectedCount + " requests matching " + pattern
+                    + " but received " + actual);
+        }
+    }
+
+    /**
+     * Verifies that at least one request matches the pattern.
+     * @param pattern Request pattern
+     * @throws AssertionError there is no matching request
+     */
+    public void verify(RequestPattern pattern) {
+        if (countRequests(pattern) == 0) {
+            throw new AssertionError("Expected at least one request matching " + pattern + " but received none");
+        }
+    }
+
+    /**
+     * Verifies that all requests matched a stub.
+     * @throws AssertionError there are unmatched requests, up to 10 of them are listed in the message
+     */
+    public void verifyNoUnmatchedRequests() {
+        List<LoggedRequest> unmatched = findUnmatchedRequests();
+        if (!unmatched.isEmpty()) {
+            StringBuilder message = new StringBuilder("Found ").append(unmatched.size()).append(" unmatched requests:");
+            unmatched.stream().limit(10).forEach(request ->
+                    message.append("\n - ").append(request.getMethod()).append(' ').append(request.getUrl()));
+            throw new AssertionError(message.toString());
+        }
+    }
+
+    private static List<LoggedRequest> toRequests(Response response, boolean wasMatched) {
+        List<LoggedRequest> requests = new ArrayList<>();
+        for (JsonNode request : readTree(response).path("requests")) {
+            requests.add(LoggedRequest.fromRequest(request, wasMatched));
+        }
+        return requests;
+    }
+
+    // Scenarios
+
+    public List<Scenario> getScenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (JsonNode scenario : readTree(send("GET", "/__admin/scenarios", null)).path("scenarios")) {
+            List<String> possibleStates = new ArrayList<>();
+            scenario.path("possibleStates").forEach(state -> possibleStates.add(state.asText()));
+            scenarios.add(new Scenario(scenario.path("name").asText(), scenario.path("state").asText(), possibleStates));
+        }
+        return scenarios;
+    }
+
+    /**
+     * Sets the state of a scenario. Requires WireMock 3.x.
+     * @param name Scenario name
+     * @param state New state
+     */
+    public void setScenarioState(String name, String state) {
+        ObjectNode body = MAPPER.createObjectNode().put("state", state);
+        send("PUT", "/__admin/scenarios/" + encode(name) + "/state", body.toString());
+    }
+
+    /**
+     * Resets all scenarios to the {@code Started} state.
+     */
+    public void resetScenarios() {
+        send("POST", "/__admin/scenarios/reset", null);
+    }
+
+    // Settings
+
+    /**
+     * Sets the delay added to all responses.
+     * @param fixedDelay Delay, {@link Duration#ZERO} to remove it
+     */
+    public void setGlobalFixedDelay(Duration fixedDelay) {
+        ObjectNode body = MAPPER.createObjectNode().put("fixedDelay", fixedDelay.toMillis());
+        send("POST", "/__admin/settings", body.toString());
+    }
+
+    // Reset
+
+    /**
+     * Resets the container to its configuration with a single call: the request journal and scenarios are cleared,
+     * the stubs are reverted to the ones loaded from files.
+     */
+    public void reset() {
+        send("POST", "/__admin/reset", null);
+    }
+
+    /*package*/ static JsonNode readTree(Response response) {
+        try {
+            return MAPPER.readTree(response.body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot parse the response of " + response.request, e);
+        }
+    }
+
+    /*package*/ Response send(String method, String path, String body) {
+        return sendAllowingStatus(method, path, body, -1);
+    }
+
+    /**
+     * Sends the request and reads the whole response, so that the connection returns to the keep-alive cache.
+     * @throws IllegalStateException the status is neither 2xx nor the allowed one
+     */
+    /*package*/ Response sendAllowingStatus(String method, String path, String body, int allowedStatus) {
+        final String request = method + " " + path;
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+            connection.setRequestMethod(method);
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            connection.setRequestProperty("Accept", JSON);
+            if (body != null) {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", JSON);
+                connection.setFixedLengthStreamingMode(bytes.length);
+                try (OutputStream os = connection.getOutputStream()) {
+                    os.write(bytes);
+                }
+            }
+            final int status = connection.getResponseCode();
+            final Response response = new Response(request, status, readFully(
+                    status < 400 ? connection.getInputStream() : connection.getErrorStream()));
+            if ((status < 200 || status >= 300) && status != allowedStatus) {
+                throw new IllegalStateException(request + " returned HTTP " + status + ": " + response.body());
+            }
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to call " + request + " on " + baseUrl, e);
+        }
+    }
+
+    /**
+     * Sends the request and returns the response body for incremental reading.
+     * @return Response body, must be closed by the caller
+     * @throws IllegalStateException the status is not 2xx
+     */
+    /*package*/ InputStream open(String method, String path) {
+        final String request = method + " " + path;
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+            connection.setRequestMethod(method);
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            connection.setRequestProperty("Accept", JSON);
+            final int status = connection.getResponseCode();
+            if (status < 200 || status >= 300) {
+                byte[] body = readFully(connection.getErrorStream());
+                throw new IllegalStateException(request + " returned HTTP " + status + ": "
+                        + new String(body, StandardCharsets.UTF_8));
+            }
+            return connection.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to call " + request + " on " + baseUrl, e);
+        }
+    }
+
+    private static byte[] readFully(InputStream is) throws IOException {
+        if (is == null) {
+            return new byte[0];
+        }
+        try (InputStream in = is) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /*package*/ static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8").replace("+", "%20");
+        } catch (IOException e) {
+            throw new IllegalStateException("UTF-8 is not supported by the JVM", e);
+        }
+    }
+
+    /*package*/ static final class Response {
+        final String request;
+        final int status;
+        final byte[] body;
+
+        Response(String request, int status, byte[] body) {
+            this.request = request;
+            this.status = status;
+            this.body = body;
+        }
+
+        String body() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * State of a WireMock scenario.
+     */
+    public static final class Scenario {
+        private final String name;
+        private final String state;
+        private final List<String> possibleStates;
+
+        public Scenario(String name, String state, List<String> possibleStates) {
+            this.name = name;
+            this.state = state;
+            this.possibleStates = Collections.unmodifiableList(new ArrayList<>(possibleStates));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getState() {
+            return state;
+        }
+
+        public List<String> getPossibleStates() {
+            return possibleStates;
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + state;
+        }
+    }
+}
@@ -15,9 +15,14 @@
  */
 package org.wiremock.integrations.testcontainers;
 
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.api.model.HostConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.Wait;
-import org.testcontainers.containers.wait.strategy.WaitStrategy;
+import org.testcontainers.containers.Network;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.shaded.com.google.common.io.Resources;
 import org.testcontainers.utility.ComparableVersion;
@@ -26,17 +31,25 @@ import org.testcontainers.utility.MountableFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,6 +65,8 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
     private static final String WIREMOCK_3_LATEST_TAG = "3.5.4";
     /*package*/ static final String WIREMOCK_2_MINIMUM_SUPPORTED_VERSION = "2.0.0";
     static final String WIREMOCK_HEALTH_CHECK_SUPPORT_MINIMUM_VERSION = "3.0.0-1";
+    static final String WIREMOCK_STUB_METADATA_MINIMUM_VERSION = "2.19.0";
+    static final String WIREMOCK_STUB_IMPORT_MINIMUM_VERSION = "2.28.0";
 
     /**
      * @deprecated Not really guaranteed to be latest. Will be reworked
@@ -67,24 +82,46 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
     private static final String CONTAINER_FILES_DIR = CONTAINER_WORKING_DIR + FILES_DIR;
 
     private static final String EXTENSIONS_DIR = "/var/wiremock/extensions/";
+    // logger() of the container resolves the image, which is not needed for the configuration
+    private static final Logger LOGGER = LoggerFactory.getLogger(WireMockContainer.class);
+    /** Whether the JVM of the image supports the class data sharing archive, keyed by the image name */
+    private static final Map<String, Boolean> CLASS_DATA_SHARING_SUPPORT = new ConcurrentHashMap<>();
+    private static final String IMAGE_ENTRYPOINT = "/docker-entrypoint.sh";
+    private static final List<String> TMPFS_DIRS = Collections.unmodifiableList(Arrays.asList(MAPPINGS_DIR, FILES_DIR));
     private static final int PORT = 8080;
-    private static final WaitStrategy DEFAULT_WAITER = Wait
-            .forHttp("/__admin/mappings")
-            .withMethod("GET")
-            .forStatusCode(200)
-            .forPort(PORT);
-
-    private static final WaitStrategy HEALTH_CHECK_ENDPOINT_WAITER = Wait
-            .forHttp("/__admin/health")
-            .withMethod("GET")
-            .forStatusCode(200)
-            .forPort(PORT);
+
     private final StringBuilder wireMockArgs;
-    private final Map<String, Stub> mappingStubs = new HashMap<>();
-    private final Map<String, MountableFile> mappingFiles = new HashMap<>();
+    /** WireMock version of the image, {@code null} if the tag is not a semantic version */
+    private final ComparableVersion wireMockVersion;
+    private final String baseImageName;
+    private final WireMockOptions options = new WireMockOptions();
+    /** Stubs in the registration order, so that the first of the identical stubs is copied */
+    private final Map<String, Stub> mappingStubs = new LinkedHashMap<>();
+    /** Content-addressed storage of mapping stubs, keyed by the content digest. Sources are read lazily */
+    private final Map<String, Transferable> mappingContents = new HashMap<>();
+    private final Map<String, Fixture> mappingFiles = new LinkedHashMap<>();
     private final Set<String> extensionClassNames = new LinkedHashSet<>();
-    private final Set<File> extensionJars = new LinkedHashSet<>();
+    private final Map<String, Fixture> extensionJars = new LinkedHashMap<>();
     private boolean isBannerDisabled = true;
+    private boolean isBundledFileTransferEnabled = false;
+    private boolean isPrebakedImageEnabled = false;
+    private String prebakedBaseImage;
+    private final WireMockWaitStrategy readinessWaiter = new WireMockWaitStrategy(PORT);
+    private boolean isLoadedMappingsCheckEnabled = false;
+    private JvmProfile jvmProfile;
+    private ContainerResources resources;
+    private boolean isClassDataSharingEnabled = false;
+    private String classDataSharingVolume;
+    private long fileMountThreshold = -1;
+    private List<Bind> fileMounts = Collections.emptyList();
+    private boolean isTmpfsStorageEnabled = false;
+    private int mergedMappingShards = 0;
+    private StubValidation stubValidation = StubValidation.LENIENT;
+    private long tmpfsSize = -1;
+    private List<String> entrypointSetup = Collections.emptyList();
+    private RequestEventStream requestEvents;
+    private volatile StartupRecorder startupRecorder = new StartupRecorder();
+    private volatile StartupReport startupReport;
 
     private File rootDir = new File("src/test/resources");
 
@@ -110,14 +147,35 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
             }
         }
 
+        wireMockVersion = version.isSemanticVersion() ? version : null;
+        baseImageName = dockerImage.asCanonicalNameString();
         wireMockArgs = new StringBuilder();
+        // Invoked right before the container is created, once the image is resolved
+        withCreateContainerCmdModifier(cmd -> {
+            startupRecorder.createStarted();
+            if (resources != null) {
+                applyResources(cmd.getHostConfig());
+            }
+            if (!fileMounts.isEmpty()) {
+                FileMounts.addBinds(cmd.getHostConfig(), fileMounts);
+            }
+            if (classDataSharingVolume != null) {
+                ClassDataSharing.mount(cmd.getHostConfig(), classDataSharingVolume);
+            }
+            if (tmpfsSize > 0) {
+                TmpfsStorage.mount(cmd.getHostConfig(), CONTAINER_WORKING_DIR, TMPFS_DIRS, tmpfsSize);
+            }
+            if (!entrypointSetup.isEmpty()) {
+                // Runs the setup, then the image entrypoint with the command as arguments
+                cmd.withEntrypoint("/bin/sh", "-c",
+                        String.join(" ", entrypointSetup) + " exec " + IMAGE_ENTRYPOINT + " \"$@\"", "wiremock");
+            }
+        });
 
-        if (version.isGreaterThanOrEqualTo(WIREMOCK_HEALTH_CHECK_SUPPORT_MINIMUM_VERSION)) {
-            setWaitStrategy(HEALTH_CHECK_ENDPOINT_WAITER);
-        }
-        else {
-            setWaitStrategy(DEFAULT_WAITER);
+        if (!version.isGreaterThanOrEqualTo(WIREMOCK_HEALTH_CHECK_SUPPORT_MINIMUM_VERSION)) {
+            readinessWaiter.withHealthCheckPath("/__admin/mappings");
         }
+        setWaitStrategy(readinessWaiter);
     }
 
     /**
@@ -138,6 +196,108 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
         return this;
     }
 
+    /**
+     * Enables or disables the check of loaded mappings during the startup.
+     * When enabled, the container is considered ready only when WireMock reports
+     * at least as many mappings as were uploaded by the configuration.
+     * If WireMock reports fewer mappings, the startup fails with the expected and the loaded number of mappings.
+     * Note that WireMock may legitimately report fewer stubs than files, e.g. for empty {@code {"mappings":[]}} documents,
+     * for files sharing a stub ID, or for invalid stubs skipped in the {@link StubValidation#LENIENT} mode.
+     * The check is disabled by default, and it applies only to the default wait strategy.
+     * @param enabled {@code true} to wait for all mappings to be loaded
+     * @return this instance
+     */
+    public WireMockContainer withLoadedMappingsCheck(boolean enabled) {
+        isLoadedMappingsCheckEnabled = enabled;
+        if (!enabled) {
+            readinessWaiter.withExpectedMappings(0);
+        }
+        return this;
+    }
+
+    /**
+     * Enables the push stream of served requests with the default buffer of 1024 events per subscription.
+     * @return this instance
+     * @see #withRequestEvents(int)
+     */
+    public WireMockContainer withRequestEvents() {
+        return withRequestEvents(1024);
+    }
+
+    /**
+     * Enables the push stream of served requests, available from {@link #getRequestEvents()}.
+     * It parses the request lines from the container log, so it always adds {@code --verbose} to the WireMock arguments.
+     * The verbose mode also logs the stub loading and other diagnostics of WireMock.
+     * It cannot be combined with {@link WireMockOptions#disableRequestLogging()}.
+     * @param bufferSize Maximum number of undelivered events per subscription
+     * @return this instance
+     * @throws IllegalArgumentException the request logging is disabled by the options
+     */
+    public WireMockContainer withRequestEvents(int bufferSize) {
+        if (requestEvents != null) {
+            throw new IllegalStateException("Request events are already enabled");
+        }
+        verifyRequestLogging(options);
+        requestEvents = new RequestEventStream(bufferSize);
+        withCliArg("--verbose");
+        withLogConsumer(requestEvents);
+        return this;
+    }
+
+    /**
+     * Get the push stream of served requests.
+     * @return Request event stream
+     * @throws IllegalStateException the stream is not enabled by {@link #withRequestEvents()}
+     */
+    public RequestEventStream getRequestEvents() {
+        if (requestEvents == null) {
+            throw new IllegalStateException("Request events are not enabled, use withRequestEvents()");
+        }
+        return requestEvents;
+    }
+
+    /**
+     * Enables or disables the bundled file transfer.
+     * When enabled, all mappings, files and extension JARs are shipped to the container
+     * as a single TAR archive instead of a copy operation per file.
+     * It reduces the startup time for configurations with many files.
+     * @param enabled {@code true} to ship all files in one copy operation
+     * @return this instance
+     */
+    public WireMockContainer withBundledFileTransfer(boolean enabled) {
+        isBundledFileTransferEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * Enables or disables the prebaked image mode.
+     * When enabled, mappings, files and extension JARs are baked into a derived image
+     * tagged with a hash of the configuration.
+     * The image is built on the first start and reused by later starts with the same configuration,
+     * so the copy phase is skipped entirely.
+     * The build uses the locally present base image and works offline.
+     * <p>
+     * Prebaked images are kept after the JVM exits, so every configuration change leaves an outdated image behind.
+     * Remove them with {@link #removePrebakedImages()}, or with
+     * {@code docker image prune -a --filter label=org.wiremock.testcontainers.prebaked}.
+     * @param enabled {@code true} to use a prebaked image
+     * @return this instance
+     */
+    public WireMockContainer withPrebakedImage(boolean enabled) {
+        isPrebakedImageEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * Removes the images built by {@link #withPrebakedImage(boolean)}, except for the ones used by this JVM.
+     * Images used by other containers are skipped.
+     * It can be called once per test suite, e.g. from a JUnit extension or from the build script.
+     * @return Number of removed images
+     */
+    public static int removePrebakedImages() {
+        return PrebakedImage.prune();
+    }
+
     /**
      * Adds CLI argument to the WireMock call.
      * @param arg Argument
@@ -150,12 +310,154 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
     }
 
     /**
-     * Add mapping JSON file from its value
+     * Applies typed server options. Options set before are kept unless overridden.
+     * @param options Server options
+     * @return this instance
+     * @throws IllegalArgumentException an option is not supported by the WireMock version of the image,
+     *         or it disables the request logging needed by {@link #withRequestEvents()}.
+     *         Images without a semantic version tag are not checked
+     */
+    public WireMockContainer withOptions(WireMockOptions options) {
+        if (wireMockVersion != null) {
+            options.verifyVersion(wireMockVersion);
+        }
+        if (requestEvents != null) {
+            verifyRequestLogging(options);
+        }
+        this.options.merge(options);
+        return this;
+    }
+
+    private static void verifyRequestLogging(WireMockOptions options) {
+        if (options.getValues().containsKey(WireMockOptions.Option.DISABLE_REQUEST_LOGGING)) {
+            throw new IllegalArgumentException("Request events need the verbose request logging, "
+                    + "they cannot be combined with " + WireMockOptions.Option.DISABLE_REQUEST_LOGGING.getFlag());
+        }
+    }
+
+    /**
+     * Sets heap sizing, the garbage collector and other options of the WireMock JVM.
+     * The options are passed as {@code JAVA_OPTS} and override the value set by {@link #withEnv(String, String)}.
+     * @param jvmProfile JVM settings, replacing the ones set before
+     * @return this instance
+     */
+    public WireMockContainer withJvmProfile(JvmProfile jvmProfile) {
+        this.jvmProfile = jvmProfile;
+        return this;
+    }
+
+    /**
+     * Sets the CPU quota and the memory limit of the container.
+     * @param resources Resource limits, replacing the ones set before
+     * @return this instance
+     */
+    public WireMockContainer withResources(ContainerResources resources) {
+        this.resources = resources;
+        return this;
+    }
+
+    /**
+     * Enables the class data sharing archive of the WireMock JVM.
+     * The first start for the image and the extension JARs records the archive into a named Docker volume,
+     * further starts use it to reduce the JVM startup and class loading time.
+     * The archive is written when the JVM exits, so the container is stopped gracefully instead of being killed.
+     * <p>
+     * Requires Java 13+ in the image, older JVMs start without the archive.
+     * The default WireMock 3.x images run Java 11, so an image with a newer JVM is needed.
+     * The Java version of the image is checked on the first start, and a warning is logged if it is too old.
+     * @param enabled Enable the archive
+     * @return this instance
+     */
+    public WireMockContainer withClassDataSharing(boolean enabled) {
+        this.isClassDataSharingEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * Enables read-only bind mounts for files of 10MB and more, see {@link #withFileMounts(long)}.
+     * @param enabled Enable the bind mounts
+     * @return this instance
+     */
+    public WireMockContainer withFileMounts(boolean enabled) {
+        return withFileMounts(enabled ? FileMounts.DEFAULT_THRESHOLD : -1);
+    }
+
+    /**
+     * Bind-mounts large files read-only into the {@code __files} directory instead of copying them.
+     * Directories are mounted as a whole if their total size reaches the threshold.
+     * The files are still copied if they are classpath resources within JARs,
+     * or if the Docker daemon does not run on this machine.
+     * @param thresholdBytes Minimum size of a file or a directory to be mounted, or a negative value to disable the mounts
+     * @return this instance
+     */
+    public WireMockContainer withFileMounts(long thresholdBytes) {
+        this.fileMountThreshold = thresholdBytes;
+        return this;
+    }
+
+    /**
+     * Places the mappings and files directories on tmpfs, so that WireMock reads the fixtures from memory.
+     * The tmpfs size is computed from the fixtures, with headroom for the mappings saved at runtime.
+     * Files copied into these directories by {@link #withCopyToContainer} are hidden by the tmpfs,
+     * use the {@code withMapping} and {@code withFile} methods instead.
+     * The tmpfs memory counts towards the memory limit of the container.
+     * @param enabled Enable tmpfs storage
+     * @return this instance
+     */
+    public WireMockContainer withTmpfsStorage(boolean enabled) {
+        this.isTmpfsStorageEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * Merges all mappings into a single {@code {"mappings": [...]}} document, see {@link #withMergedMappings(int)}.
+     * @param enabled Enable merging
+     * @return this instance
+     */
+    public WireMockContainer withMergedMappings(boolean enabled) {
+        this.mergedMappingShards = enabled ? 1 : 0;
+        return this;
+    }
+
+    /**
+     * Merges the mappings into a few {@code {"mappings": [...]}} documents, so that WireMock loads a handful of files
+     * instead of one file per stub. Each stub keeps its name in {@code metadata.testcontainers.name}.
+     * @param shards Number of documents to split the mappings into
+     * @return this instance
+     * @throws IllegalArgumentException the number of documents is not positive,
+     *         or stub metadata is not supported by the WireMock version of the image
+     */
+    public WireMockContainer withMergedMappings(int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Number of merged mapping documents must be positive, got " + shards);
+        }
+        if (wireMockVersion != null && wireMockVersion.isLessThan(WIREMOCK_STUB_METADATA_MINIMUM_VERSION)) {
+            throw new IllegalArgumentException("Merged mappings require WireMock >= " + WIREMOCK_STUB_METADATA_MINIMUM_VERSION);
+        }
+        this.mergedMappingShards = shards;
+        return this;
+    }
+
+    /**
+     * Sets how the mappings are validated on the host before the container starts.
+     * The mappings are parsed in parallel, and the errors include the source file, the line and the column.
+     * By default, invalid mappings are logged as warnings.
+     * @param stubValidation Validation mode
+     * @return this instance
+     */
+    public WireMockContainer withStubValidation(StubValidation stubValidation) {
+        this.stubValidation = stubValidation;
+        return this;
+    }
+
+    /**
+     * Add mapping JSON file from its value.
+     * The stub is named by the content digest, so adding the same JSON again has no effect.
      * @param json JSON sting
      * @return This instance
      */
     public WireMockContainer withMappingFromJSON(String json) {
-        return withMappingFromJSON(Integer.toString(json.hashCode()), json);
+        return withMappingFromJSON(ContentDigest.of(json), json);
     }
 
     /**
@@ -163,10 +465,10 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
      * @param name Name of the mapping stub
      * @param json Configuration JSON
      * @return this instance
+     * @throws IllegalArgumentException a stub with the same name but a different content is already defined
      */
     public WireMockContainer withMappingFromJSON(String name, String json) {
-        mappingStubs.put(name, new Stub(name, json));
-        // TODO: Prevent duplication
+        addStub(name, ContentDigest.of(json), Transferable.of(json));
         return this;
     }
 
@@ -235,29 +537,38 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
     }
 
     /**
-     * Loads mapping stub from the resource file
+     * Loads mapping stub from the resource file.
+     * The resource is not kept in memory, it is streamed to the container on startup.
      * @param name Name of the mapping stub
      * @param url Resource file URL
      * @return this instance
      */
     public WireMockContainer withMappingFromResource(String name, URL url) {
         try {
-            String text = Resources.toString(url, StandardCharsets.UTF_8);
-            return withMapping(name, text);
+            addStub(name, ContentDigest.of(url), new UrlTransferable(url));
+            return this;
         } catch (IOException ex) {
             throw new IllegalArgumentException(ex);
         }
     }
 
+    private void addStub(String name, String digest, Transferable content) {
+        final Stub existing = mappingStubs.putIfAbsent(name, new Stub(name, digest));
+        if (existing != null && !existing.digest.equals(digest)) {
+            throw new IllegalArgumentException("Mapping stub '" + name + "' is already defined with a different content");
+        }
+        mappingContents.putIfAbsent(digest, content);
+    }
+
     /**
      * Adds file
      * @param name ID to be used
      * @param file File to add
      * @return This instance
+     * @throws IllegalArgumentException a file with the same name but a different content is already defined
      */
     public WireMockContainer withFile(String name, File file) {
-        mappingFiles.put(name, MountableFile.forHostPath(file.getPath()));
-        // TODO: Prevent duplication
+        addFixture(mappingFiles, "File", name, MountableFile.forHostPath(file.getPath()));
         return this;
     }
 
@@ -265,22 +576,19 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
      * Adds file
      * @param file File to add
      * @return This instance
+     * @throws IllegalArgumentException a file with the same name but a different content is already defined
      */
     public WireMockContainer withFile(File file) {
-        mappingFiles.put(file.getName(), MountableFile.forHostPath(file.getPath()));
-        // TODO: Prevent duplication
-        return this;
+        return withFile(file.getName(), file);
     }
 
     public WireMockContainer withFileFromResource(String name, String classpathResource) {
-        mappingFiles.put(name, MountableFile.forClasspathResource(classpathResource));
-        // TODO: Prevent duplication
+        addFixture(mappingFiles, "File", name, MountableFile.forClasspathResource(classpathResource));
         return this;
     }
 
     public WireMockContainer withFileFromResource(String classpathResource) {
         String id = classpathResource.replace('/', '_');
-        // TODO: Prevent duplication
         return withFileFromResource(id, classpathResource);
     }
 
@@ -323,7 +631,9 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
      */
     public WireMockContainer withExtensions(Collection<String> classNames, Collection<File> jars) {
         extensionClassNames.addAll(classNames);
-        extensionJars.addAll(jars);
+        for (File jar : jars) {
+            addFixture(extensionJars, "Extension JAR", jar.getName(), MountableFile.forHostPath(jar.toPath()));
+        }
         return this;
     }
 
@@ -367,46 +677,383 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
     }
 
     public String getUrl(String path) {
-        if (!path.startsWith("/")) {
-            path = "/" + path;
+        return getBaseUrl() + toAbsolutePath(path);
+    }
+
+    /**
+     * Get the base URL for peer containers on the same Docker network.
+     * Requests to this URL go directly to the WireMock port and skip the host port mapping.
+     * The URL uses the last network alias, so an alias set by {@link #withNetworkAliases(String...)} takes precedence
+     * over the random alias generated by Testcontainers.
+     * It can be obtained before the container is started, e.g. to configure the system under test.
+     * @param network Network shared with the peer containers
+     * @return Base URL, e.g. {@code http://wiremock:8080}
+     * @throws IllegalArgumentException the container is not attached to the network
+     */
+    public String getInternalUrl(Network network) {
+        if (network == null || network != getNetwork()) {
+            throw new IllegalArgumentException("The container is not attached to the network, use withNetwork() before the start");
         }
-        return String.format("%s%s", getBaseUrl(), path);
+        final List<String> aliases = getNetworkAliases();
+        return String.format("http://%s:%d", aliases.get(aliases.size() - 1), PORT);
+    }
+
+    /**
+     * Get the URL of the path for peer containers on the same Docker network.
+     * @param network Network shared with the peer containers
+     * @param path Path within the server
+     * @return URL, e.g. {@code http://wiremock:8080/hello}
+     * @see #getInternalUrl(Network)
+     */
+    public String getInternalUrl(Network network, String path) {
+        return getInternalUrl(network) + toAbsolutePath(path);
+    }
+
+    private static String toAbsolutePath(String path) {
+        return path.startsWith("/") ? path : "/" + path;
     }
 
     public Integer getPort() {
         return getMappedPort(PORT);
     }
 
+    /**
+     * Get client for the admin API of the running container.
+     * Clients share the keep-alive connections, so there is no need to cache the instance.
+     * @return Admin API client
+     */
+    public WireMockAdminClient admin() {
+        return new WireMockAdminClient(getBaseUrl(), wireMockVersion);
+    }
+
+    /**
+     * Verifies the exact number of matching requests.
+     * The requests are counted within the container, so the cost does not depend on the traffic volume.
+     * @param expectedCount Expected number of requests
+     * @param pattern Request pattern
+     * @throws AssertionError the number of requests differs
+     */
+    public void verify(int expectedCount, RequestPattern pattern) {
+        admin().verify(expectedCount, pattern);
+    }
+
+    /**
+     * Verifies that at least one request matches the pattern.
+     * @param pattern Request pattern
+     * @throws AssertionError there is no matching request
+     */
+    public void verify(RequestPattern pattern) {
+        admin().verify(pattern);
+    }
+
+    /**
+     * Verifies that all requests matched a stub.
+     * @throws AssertionError there are unmatched requests
+     */
+    public void verifyNoUnmatchedRequests() {
+        admin().verifyNoUnmatchedRequests();
+    }
+
+    /**
+     * Starts the container on a background thread.
+     * Cancelling the returned future does not abort the startup.
+     * @return Future completed with this container once it is ready
+     */
+    public CompletableFuture<WireMockContainer> startAsync() {
+        return ParallelStartup.startAsync(this);
+    }
+
+    /**
+     * Starts the containers concurrently and waits until all of them are ready.
+     * Networks of the containers are created upfront.
+     * If a container fails to start, the other starts are cancelled, all containers are stopped
+     * and the first failure is rethrown.
+     * @param containers Containers to start
+     */
+    public static void startAll(WireMockContainer... containers) {
+        startAll(Arrays.asList(containers));
+    }
+
+    /**
+     * Starts the containers concurrently and waits until all of them are ready.
+     * @param containers Containers to start
+     * @see #startAll(WireMockContainer...)
+     */
+    public static void startAll(Collection<? extends WireMockContainer> containers) {
+        ParallelStartup.startAll(containers);
+    }
+
     @Override
     protected void configure() {
+        startupRecorder = new StartupRecorder();
+        startupRecorder.configureStarted();
         super.configure();
         addExposedPorts(PORT);
 
         loadAllFilesFromRootDirectory();
 
-        for (Stub stub : mappingStubs.values()) {
-            withCopyToContainer(Transferable.of(stub.json), CONTAINER_MAPPINGS_DIR + stub.name + ".json");
+        List<ContainerFile> containerFiles = collectContainerFiles();
+        if (stubValidation != StubValidation.DISABLED) {
+            validateStubs(containerFiles);
+        }
+        fileMounts = fileMountThreshold < 0 ? Collections.emptyList()
+                : FileMounts.extract(containerFiles, CONTAINER_FILES_DIR, fileMountThreshold,
+                        () -> FileMounts.isLocalDockerHost(DockerClientFactory.instance().getTransportConfig().getDockerHost()));
+        classDataSharingVolume = isClassDataSharingEnabled
+                ? ClassDataSharing.volumeName(baseImageName,
+                        extensionJars.values().stream().map(Fixture::getDigest).collect(Collectors.toList()))
+                : null;
+        int stubCount = (int) containerFiles.stream()
+                .filter(file -> file.getPath().startsWith(CONTAINER_MAPPINGS_DIR))
+                .count();
+        if (mergedMappingShards > 0) {
+            MappingsMerger.Result merged = MappingsMerger.merge(containerFiles, CONTAINER_MAPPINGS_DIR, mergedMappingShards);
+            containerFiles = merged.getFiles();
+            stubCount = merged.getStubCount();
+        }
+        if (isLoadedMappingsCheckEnabled) {
+            readinessWaiter.withExpectedMappings(stubCount);
         }
+        final List<String> setup = new ArrayList<>();
+        if (isTmpfsStorageEnabled) {
+            containerFiles = TmpfsStorage.stage(containerFiles, CONTAINER_WORKING_DIR, TMPFS_DIRS);
+            tmpfsSize = TmpfsStorage.sizeFor(containerFiles);
+            setup.add(TmpfsStorage.setupScript(CONTAINER_WORKING_DIR));
+        } else {
+            tmpfsSize = -1;
+        }
+        if (classDataSharingVolume != null) {
+            setup.add(ClassDataSharing.SETUP_SCRIPT);
+        }
+        entrypointSetup = setup;
 
-        for (Map.Entry<String, MountableFile> mount : mappingFiles.entrySet()) {
-            withCopyToContainer(mount.getValue(), CONTAINER_FILES_DIR + mount.getKey());
+        if (isPrebakedImageEnabled) {
+            if (prebakedBaseImage == null) {
+                prebakedBaseImage = getDockerImageName();
+            }
+            setDockerImageName(PrebakedImage.resolve(prebakedBaseImage, containerFiles));
+        } else if (isBundledFileTransferEnabled) {
+            withCopyToContainer(startupRecorder.record(new WireMockFilesBundle(containerFiles), containerFiles.size()), "/");
+        } else {
+            containerFiles.forEach(file -> withCopyToContainer(startupRecorder.record(file.getContent(), 1), file.getPath()));
         }
 
-        for (File jar : extensionJars) {
-            withCopyToContainer(MountableFile.forHostPath(jar.toPath()), EXTENSIONS_DIR + jar.getName());
+        if (jvmProfile != null) {
+            withEnv("JAVA_OPTS", jvmProfile.toString());
         }
 
+        // Derived arguments are added to a copy, so that a restart does not repeat them
+        final StringBuilder args = new StringBuilder(wireMockArgs);
+        options.toCliArgs().forEach(arg -> args.append(' ').append(arg));
+
         if (!extensionClassNames.isEmpty()) {
-            wireMockArgs.append(" --extensions ");
-            wireMockArgs.append(String.join(",", extensionClassNames));
+            args.append(" --extensions ");
+            args.append(String.join(",", extensionClassNames));
         }
 
         if (isBannerDisabled) {
-            this.withCliArg("--disable-banner");
+            args.append(" --disable-banner");
         }
 
         // Add CLI arguments
-        withCommand(wireMockArgs.toString());
+        withCommand(args.toString());
+        startupRecorder.configureFinished();
+    }
+
+    private void validateStubs(List<ContainerFile> containerFiles) {
+        final List<String> errors = StubValidator.validate(containerFiles.stream()
+                .filter(file -> file.getPath().startsWith(CONTAINER_MAPPINGS_DIR))
+                .collect(Collectors.toList()));
+        if (errors.isEmpty()) {
+            return;
+        }
+        if (stubValidation == StubValidation.STRICT) {
+            throw new IllegalArgumentException("Invalid mappings:\n" + String.join("\n", errors));
+        }
+        errors.forEach(error -> LOGGER.warn("Invalid mapping, WireMock may skip it or fail to start: {}", error));
+    }
+
+    @Override
+    protected void containerIsStarting(InspectContainerResponse containerInfo) {
+        startupRecorder.processStarted();
+        super.containerIsStarting(containerInfo);
+    }
+
+    @Override
+    protected void waitUntilContainerStarted() {
+        startupRecorder.readinessStarted();
+        super.waitUntilContainerStarted();
+        startupRecorder.readinessFinished();
+    }
+
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+        super.containerIsStarted(containerInfo);
+        startupReport = startupRecorder.toReport(getDockerImageName());
+        logger().debug("WireMock container startup: {}", startupReport);
+        StartupRecorder.emit(startupReport);
+        if (classDataSharingVolume != null) {
+            CLASS_DATA_SHARING_SUPPORT.computeIfAbsent(baseImageName, this::checkClassDataSharingSupport);
+        }
+    }
+
+    /**
+     * Checks the Java version of the image, the archive cannot be written by JVMs older than Java 13.
+     * @return {@code false} if the image runs an older JVM, {@code true} otherwise, including unknown versions
+     */
+    private boolean checkClassDataSharingSupport(String image) {
+        final String version;
+        try {
+            version = execInContainer("sh", "-c", ClassDataSharing.JAVA_VERSION_SCRIPT).getStdout();
+        } catch (IOException e) {
+            LOGGER.debug("Cannot detect the Java version of {}", image, e);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        final int major = ClassDataSharing.javaMajorVersion(version);
+        if (major < 0) {
+            LOGGER.debug("Cannot detect the Java version of {}, got '{}'", image, version.trim());
+            return true;
+        }
+        if (major < ClassDataSharing.MINIMUM_JAVA_VERSION) {
+            LOGGER.warn("Class data sharing requires Java {}+ in the image, but {} runs Java {}. The archive will not be written",
+                    ClassDataSharing.MINIMUM_JAVA_VERSION, image, version.trim());
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    protected void containerIsStopping(InspectContainerResponse containerInfo) {
+        super.containerIsStopping(containerInfo);
+        if (classDataSharingVolume != null && CLASS_DATA_SHARING_SUPPORT.getOrDefault(baseImageName, true)) {
+            // The JVM writes the archive on exit, which does not happen when the container is killed
+            try {
+                getDockerClient().stopContainerCmd(getContainerId()).withTimeout(30).exec();
+            } catch (RuntimeException e) {
+                logger().warn("Failed to stop the container gracefully, the class data sharing archive may not be written", e);
+            }
+        }
+    }
+
+    /*package*/ List<Bind> getFileMounts() {
+        return fileMounts;
+    }
+
+    /*package*/ String getClassDataSharingVolume() {
+        return classDataSharingVolume;
+    }
+
+    /*package*/ void applyResources(HostConfig hostConfig) {
+        if (resources.getCpus() != null) {
+            hostConfig.withNanoCPUs((long) (resources.getCpus() * 1_000_000_000L));
+        }
+        if (resources.getMemoryBytes() != null) {
+            hostConfig.withMemory(resources.getMemoryBytes()).withMemorySwap(resources.getMemoryBytes());
+        }
+    }
+
+    /**
+     * Reads the resource limits and the JVM settings in effect within the running container.
+     * The limits are read from the container cgroup. The JVM settings are read from the WireMock JVM with {@code jcmd}.
+     * Images without {@code jcmd}, e.g. the JRE-based ones, report the settings of a short-lived JVM
+     * started with the same {@code JAVA_OPTS}, so it gets the same ergonomics as WireMock.
+     * @return Effective resources
+     * @throws IllegalStateException the container is not running, or the values cannot be read
+     */
+    public EffectiveResources getEffectiveResources() {
+        if (!isRunning()) {
+            throw new IllegalStateException("The container is not running");
+        }
+        return EffectiveResources.parse(
+                exec("sh", "-c", EffectiveResources.CGROUP_SCRIPT),
+                exec("sh", "-c", EffectiveResources.JVM_FLAGS_SCRIPT));
+    }
+
+    private String exec(String... command) {
+        final ExecResult result;
+        try {
+            result = execInContainer(command);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to run " + command[0] + " in the container", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running " + command[0] + " in the container", e);
+        }
+        if (result.getExitCode() != 0) {
+            throw new IllegalStateException("Failed to run " + command[0] + " in the container, exit code "
+                    + result.getExitCode() + ": " + result.getStderr());
+        }
+        return result.getStdout();
+    }
+
+    /*package*/ WireMockWaitStrategy getReadinessWaiter() {
+        return readinessWaiter;
+    }
+
+    /**
+     * Get timings of the startup phases: configuration, image resolution, container creation,
+     * file transfer, process start and readiness.
+     * The report is also logged at the debug level and emitted as a JFR event, if JFR is available.
+     * @return Report of the last startup
+     * @throws IllegalStateException the container has not been started yet
+     */
+    public StartupReport getStartupReport() {
+        if (startupReport == null) {
+            throw new IllegalStateException("The container has not been started yet");
+        }
+        return startupReport;
+    }
+
+    /**
+     * Collects all files to be copied to the container.
+     * Mapping stubs and extension JARs with identical content are included only once.
+     * Other files are digested on the first use, so that the files mounted instead of being copied are never read.
+     * @return Files in the copy order
+     */
+    /*package*/ List<ContainerFile> collectContainerFiles() {
+        final List<ContainerFile> files = new ArrayList<>();
+        final Set<String> stubDigests = new HashSet<>();
+        for (Stub stub : mappingStubs.values()) {
+            if (stubDigests.add(stub.digest)) {
+                files.add(new ContainerFile(CONTAINER_MAPPINGS_DIR + stub.name + ".json", stub.digest,
+                        mappingContents.get(stub.digest)));
+            }
+        }
+
+        for (Map.Entry<String, Fixture> file : mappingFiles.entrySet()) {
+            files.add(new ContainerFile(CONTAINER_FILES_DIR + file.getKey(), file.getValue()::getDigest, file.getValue().file));
+        }
+
+        final Set<String> jarDigests = new HashSet<>();
+        for (Map.Entry<String, Fixture> jar : extensionJars.entrySet()) {
+            if (jarDigests.add(jar.getValue().getDigest())) {
+                files.add(new ContainerFile(EXTENSIONS_DIR + jar.getKey(), jar.getValue().getDigest(), jar.getValue().file));
+            }
+        }
+        return files;
+    }
+
+    private static void addFixture(Map<String, Fixture> fixtures, String kind, String name, MountableFile file) {
+        addFixture(fixtures, kind, name, file, () -> {
+            try {
+                return ContentDigest.of(Paths.get(file.getResolvedPath()));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Cannot read " + kind + " '" + name + "' from " + file.getResolvedPath(), e);
+            }
+        });
+    }
+
+    private static void addFixture(Map<String, Fixture> fixtures, String kind, String name, MountableFile file,
+                                   Supplier<String> digest) {
+        final Fixture existing = fixtures.putIfAbsent(name, new Fixture(file, digest));
+        // Only conflicting names require digests, other fixtures are digested when they are copied into the container
+        if (existing != null && !existing.file.getResolvedPath().equals(file.getResolvedPath())
+                && !existing.getDigest().equals(digest.get())) {
+            throw new IllegalArgumentException(kind + " '" + name + "' is already defined with a different content");
+        }
     }
 
     /**
@@ -414,6 +1061,7 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
      * If not set, {@code src/test/resources} will be used by default.
      * <p>
      * Files will be loaded from {@code $rootDir/__files} and mappings from {@code $rootDir/mappings}.
+     * The directory scan is cached within the JVM and reused by other containers until the files are modified.
      *
      * @param rootDir the root directory
      * @return this instance
@@ -423,47 +1071,47 @@ public class WireMockContainer extends GenericContainer<WireMockContainer> {
         return this;
     }
 
-    private void loadAllFilesFromRootDirectory() {
+    /*package*/ void loadAllFilesFromRootDirectory() {
         if (rootDir == null || !rootDir.isDirectory()) {
             return;
         }
 
-        Path mappingsPath = rootDir.toPath().resolve(MAPPINGS_DIR);
-        getAllFiles(mappingsPath).forEach(path -> withMappingFromJSON(readAllContent(path)));
-
-        Path filesPath = rootDir.toPath().resolve(FILES_DIR);
-        getAllFiles(filesPath).forEach(path ->
-                withFile(filesPath.relativize(path).toString(), path.toFile()));
-    }
-
-    private List<Path> getAllFiles(Path path) {
-
-        if (!Files.exists(path)) {
-            return Collections.emptyList();
-        }
-
-        try (Stream<Path> stream = Files.walk(path)){
-            return stream.filter(Files::isRegularFile).collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        FixtureManifest mappings = FixtureManifestCache.get(rootDir.toPath().resolve(MAPPINGS_DIR));
+        for (FixtureManifest.Entry mapping : mappings.getEntries()) {
+            addStub(mapping.getDigest(), mapping.getDigest(), MountableFile.forHostPath(mapping.getPath()));
         }
-    }
 
-    private String readAllContent(Path path) {
-        try {
-            return new String(Files.readAllBytes(path));
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
+        FixtureManifest files = FixtureManifestCache.get(rootDir.toPath().resolve(FILES_DIR), false);
+        for (FixtureManifest.Entry file : files.getEntries()) {
+            addFixture(mappingFiles, "File", file.getRelativePath(), MountableFile.forHostPath(file.getPath()), file::getDigest);
         }
     }
 
     private static final class Stub {
         final String name;
-        final String json;
+        final String digest;
 
-        public Stub(String name, String json) {
+        public Stub(String name, String digest) {
             this.name = name;
-            this.json = json;
+            this.digest = digest;
+        }
+    }
+
+    private static final class Fixture {
+        final MountableFile file;
+        private final Supplier<String> digestSupplier;
+        private String digest;
+
+        public Fixture(MountableFile file, Supplier<String> digestSupplier) {
+            this.file = file;
+            this.digestSupplier = digestSupplier;
+        }
+
+        String getDigest() {
+            if (digest == null) {
+                digest = digestSupplier.get();
+            }
+            return digest;
         }
     }
 }
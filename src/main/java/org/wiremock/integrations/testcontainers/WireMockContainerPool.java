@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pool of started WireMock containers sharing the same base configuration.
+ * Containers are handed out as {@link Lease}s, so tests do not pay for the cold start.
+ * When a lease is closed, the container is reset with a single admin API call:
+ * the request journal and scenarios are reset, and the stubs are reverted to the base stubs from the configuration.
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * WireMockContainerPool pool = new WireMockContainerPool(4, () -> new WireMockContainer(image)
+ *         .withMappingFromResource("hello", MyTest.class, "hello.json"));
+ * pool.start();
+ * try (WireMockContainerPool.Lease lease = pool.acquire()) {
+ *     String url = lease.getContainer().getUrl("/hello");
+ *     // ...
+ * }
+ * }</pre>
+ */
+public class WireMockContainerPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WireMockContainerPool.class);
+    private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofMinutes(1);
+
+    private final int size;
+    private final Supplier<WireMockContainer> factory;
+    private final List<WireMockContainer> containers = new ArrayList<>();
+    private final BlockingQueue<WireMockContainer> idle = new LinkedBlockingQueue<>();
+    private final Statistics statistics = new Statistics();
+    private boolean started = false;
+
+    /**
+     * Creates the pool.
+     * Containers are created and started by {@link #start()}.
+     * @param size Number of containers in the pool
+     * @param factory Factory for containers with the base configuration
+     */
+    public WireMockContainerPool(int size, Supplier<WireMockContainer> factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be positive, got " + size);
+        }
+        this.size = size;
+        this.factory = factory;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Starts all containers of the pool in parallel.
+     * Does nothing if the pool is already started.
+     * If any container fails to start, all of them are stopped and the pool stays empty.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        final List<WireMockContainer> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(factory.get());
+        }
+        WireMockContainer.startAll(batch);
+        containers.addAll(batch);
+        idle.addAll(batch);
+        started = true;
+    }
+
+    /**
+     * Acquires a container, waiting up to one minute for it to become available.
+     * @return Lease of the container. Must be closed to return the container to the pool
+     * @throws IllegalStateException no container became available in time
+     */
+    public Lease acquire() {
+        return acquire(DEFAULT_ACQUIRE_TIMEOUT);
+    }
+
+    /**
+     * Acquires a container.
+     * @param timeout Maximum time to wait for a container to become available
+     * @return Lease of the container. Must be closed to return the container to the pool
+     * @throws IllegalStateException no container became available in time, or the pool is not started
+     */
+    public Lease acquire(Duration timeout) {
+        if (!started) {
+            throw new IllegalStateException("The pool is not started");
+        }
+        final long startedAt = System.nanoTime();
+        final WireMockContainer container;
+        try {
+            container = idle.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a container", e);
+        }
+        if (container == null) {
+            throw new IllegalStateException("No container became available within " + timeout);
+        }
+        statistics.acquired.record(System.nanoTime() - startedAt);
+        return new Lease(container);
+    }
+
+    /**
+     * Get the latency statistics.
+     * @return Live statistics of the pool
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    private void release(WireMockContainer container) {
+        final long startedAt = System.nanoTime();
+        try {
+            container.admin().reset();
+            statistics.reset.record(System.nanoTime() - startedAt);
+            idle.add(container);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to reset container {}, replacing it", container.getContainerId(), e);
+            replace(container);
+        }
+    }
+
+    private synchronized void replace(WireMockContainer container) {
+        container.stop();
+        containers.remove(container);
+        if (!started) {
+            return;
+        }
+        WireMockContainer replacement = factory.get();
+        replacement.start();
+        containers.add(replacement);
+        idle.add(replacement);
+    }
+
+    /**
+     * Stops all containers of the pool.
+     */
+    @Override
+    public synchronized void close() {
+        started = false;
+        idle.clear();
+        containers.forEach(WireMockContainer::stop);
+        containers.clear();
+    }
+
+    /**
+     * Lease of a pooled container.
+     * Closing the lease resets the container and returns it to the pool.
+     */
+    public final class Lease implements AutoCloseable {
+        private final WireMockContainer container;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Lease(WireMockContainer container) {
+            this.container = container;
+        }
+
+        public WireMockContainer getContainer() {
+            if (released.get()) {
+                throw new IllegalStateException("The lease is already closed");
+            }
+            return container;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(container);
+            }
+        }
+    }
+
+    /**
+     * Lease and reset latency statistics of the pool.
+     */
+    public static final class Statistics {
+        private final Latency acquired = new Latency();
+        private final Latency reset = new Latency();
+
+        /**
+         * Get latency of {@link #acquire()} calls, including the wait for a free container.
+         * @return Acquire latency
+         */
+        public Latency getAcquireLatency() {
+            return acquired;
+        }
+
+        /**
+         * Get latency of container resets after the leases are closed.
+         * @return Reset latency
+         */
+        public Latency getResetLatency() {
+            return reset;
+        }
+
+        @Override
+        public String toString() {
+            return "acquire: " + acquired + ", reset: " + reset;
+        }
+    }
+
+    /**
+     * Aggregated latency of an operation.
+     */
+    public static final class Latency {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public Duration getAverage() {
+            long n = count.get();
+            return n == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.get() / n);
+        }
+
+        public Duration getMax() {
+            return Duration.ofNanos(maxNanos.get());
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() + ", avg=" + getAverage().toMillis() + "ms, max=" + getMax().toMillis() + "ms";
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarConstants;
+import org.testcontainers.images.builder.Transferable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Checksum;
+
+/**
+ * Bundles multiple files into a single {@link Transferable}.
+ * All entries are written into one TAR stream, so the whole bundle is shipped to the container
+ * with a single copy operation instead of one operation per file.
+ * Entries are addressed by absolute container paths, the destination passed by Testcontainers is ignored.
+ * An optional prefix allows placing the same layout into a subdirectory, e.g. in an image build context.
+ * <p>
+ * Files with identical content are transferred once, further occurrences are written as hard links.
+ * Directories are always transferred, as hard links to directories are not allowed.
+ */
+/*package*/ class WireMockFilesBundle implements Transferable {
+
+    private static final int FILE_TYPE_MASK = 0170000;
+    private static final int REGULAR_FILE = 0100000;
+
+    private final String prefix;
+    private final List<ContainerFile> entries;
+
+    public WireMockFilesBundle(Collection<ContainerFile> entries) {
+        this("", entries);
+    }
+
+    /**
+     * Creates bundle with the entries placed under the prefix.
+     * @param prefix Path prefix for all entries, e.g. {@code fixtures}
+     * @param entries Files to bundle
+     */
+    public WireMockFilesBundle(String prefix, Collection<ContainerFile> entries) {
+        this.prefix = prefix;
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * Get the bundled entries.
+     * @return Files in the transfer order
+     */
+    public List<ContainerFile> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Get the size of the unique content within the bundle.
+     * Hard links do not count.
+     * @return size in bytes
+     */
+    @Override
+    public long getSize() {
+        long size = 0;
+        Set<String> digests = new HashSet<>();
+        for (ContainerFile entry : entries) {
+            if (!isRegularFile(entry) || digests.add(entry.getDigest())) {
+                size += entry.getContent().getSize();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void transferTo(TarArchiveOutputStream tarArchiveOutputStream, String destination) {
+        Map<String, String> transferredPaths = new HashMap<>();
+        for (ContainerFile entry : entries) {
+            String path = prefix + entry.getPath();
+            String linkTarget = isRegularFile(entry) ? transferredPaths.putIfAbsent(entry.getDigest(), path) : null;
+            if (linkTarget == null) {
+                entry.getContent().transferTo(tarArchiveOutputStream, path);
+            } else {
+                writeHardLink(tarArchiveOutputStream, path, linkTarget);
+            }
+        }
+    }
+
+    private static boolean isRegularFile(ContainerFile entry) {
+        return (entry.getContent().getFileMode() & FILE_TYPE_MASK) == REGULAR_FILE;
+    }
+
+    private static void writeHardLink(TarArchiveOutputStream tar, String path, String target) {
+        TarArchiveEntry link = new TarArchiveEntry(toEntryName(path), TarConstants.LF_LINK);
+        link.setLinkName(toEntryName(target));
+        try {
+            tar.putArchiveEntry(link);
+            tar.closeArchiveEntry();
+        } catch (IOException e) {
+            throw new RuntimeException("Can't link " + path + " to " + target, e);
+        }
+    }
+
+    private static String toEntryName(String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    @Override
+    public void updateChecksum(Checksum checksum) {
+        for (ContainerFile entry : entries) {
+            byte[] path = entry.getPath().getBytes(StandardCharsets.UTF_8);
+            checksum.update(path, 0, path.length);
+            byte[] digest = entry.getDigest().getBytes(StandardCharsets.UTF_8);
+            checksum.update(digest, 0, digest.length);
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "WireMock files bundle (" + entries.size() + " entries)";
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.testcontainers.utility.ComparableVersion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed WireMock server options for throughput tuning, applied by {@link WireMockContainer#withOptions(WireMockOptions)}.
+ * Unlike raw {@link WireMockContainer#withCliArg(String)} arguments, the options cannot be misspelled,
+ * and each of them is checked against the WireMock version of the image.
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * new WireMockContainer(image).withOptions(new WireMockOptions()
+ *         .containerThreads(200)
+ *         .asyncResponseThreads(50)
+ *         .noRequestJournal()
+ *         .disableRequestLogging());
+ * }</pre>
+ */
+public final class WireMockOptions {
+
+    /**
+     * Supported options with the minimum WireMock version.
+     */
+    /*package*/ enum Option {
+        CONTAINER_THREADS("--container-threads", "2.0.0"),
+        JETTY_ACCEPTOR_THREADS("--jetty-acceptor-threads", "2.0.0"),
+        JETTY_ACCEPT_QUEUE_SIZE("--jetty-accept-queue-size", "2.0.0"),
+        ASYNC_RESPONSE_ENABLED("--async-response-enabled", "2.11.0"),
+        ASYNC_RESPONSE_THREADS("--async-response-threads", "2.11.0"),
+        NO_REQUEST_JOURNAL("--no-request-journal", "2.0.0"),
+        MAX_REQUEST_JOURNAL_ENTRIES("--max-request-journal-entries", "2.0.0"),
+        DISABLE_GZIP("--disable-gzip", "2.15.0"),
+        DISABLE_REQUEST_LOGGING("--disable-request-logging", "2.24.0");
+
+        private final String flag;
+        private final String minimumVersion;
+
+        Option(String flag, String minimumVersion) {
+            this.flag = flag;
+            this.minimumVersion = minimumVersion;
+        }
+
+        public String getFlag() {
+            return flag;
+        }
+
+        public String getMinimumVersion() {
+            return minimumVersion;
+        }
+    }
+
+    /** Option values, {@code null} for flags without a value */
+    private final Map<Option, String> values = new EnumMap<>(Option.class);
+
+    /**
+     * Sets the number of Jetty threads serving the requests.
+     * @param threads Number of threads
+     * @return this instance
+     */
+    public WireMockOptions containerThreads(int threads) {
+        return set(Option.CONTAINER_THREADS, positive("Container threads", threads));
+    }
+
+    public WireMockOptions jettyAcceptorThreads(int threads) {
+        return set(Option.JETTY_ACCEPTOR_THREADS, positive("Jetty acceptor threads", threads));
+    }
+
+    public WireMockOptions jettyAcceptQueueSize(int size) {
+        return set(Option.JETTY_ACCEPT_QUEUE_SIZE, positive("Jetty accept queue size", size));
+    }
+
+    /**
+     * Enables or disables asynchronous responses, so that delayed responses do not block the Jetty threads.
+     * @param enabled {@code true} to enable
+     * @return this instance
+     */
+    public WireMockOptions asyncResponseEnabled(boolean enabled) {
+        if (!enabled) {
+            values.remove(Option.ASYNC_RESPONSE_THREADS);
+        }
+        return set(Option.ASYNC_RESPONSE_ENABLED, Boolean.toString(enabled));
+    }
+
+    /**
+     * Enables asynchronous responses with the specified number of threads.
+     * @param threads Number of threads
+     * @return this instance
+     */
+    public WireMockOptions asyncResponseThreads(int threads) {
+        set(Option.ASYNC_RESPONSE_ENABLED, "true");
+        return set(Option.ASYNC_RESPONSE_THREADS, positive("Async response threads", threads));
+    }
+
+    /**
+     * Disables the request journal. The verification and journal APIs will not work.
+     * @return this instance
+     */
+    public WireMockOptions noRequestJournal() {
+        if (values.containsKey(Option.MAX_REQUEST_JOURNAL_ENTRIES)) {
+            throw new IllegalArgumentException("The request journal cannot be disabled and limited at the same time");
+        }
+        return set(Option.NO_REQUEST_JOURNAL, null);
+    }
+
+    public WireMockOptions maxRequestJournalEntries(int entries) {
+        if (values.containsKey(Option.NO_REQUEST_JOURNAL)) {
+            throw new IllegalArgumentException("The request journal cannot be disabled and limited at the same time");
+        }
+        return set(Option.MAX_REQUEST_JOURNAL_ENTRIES, positive("Max request journal entries", entries));
+    }
+
+    public WireMockOptions disableGzip() {
+        return set(Option.DISABLE_GZIP, null);
+    }
+
+    /**
+     * Disables logging of the requests to the console.
+     * It cannot be combined with the request events, see {@link WireMockContainer#withRequestEvents()}.
+     * @return this instance
+     */
+    public WireMockOptions disableRequestLogging() {
+        return set(Option.DISABLE_REQUEST_LOGGING, null);
+    }
+
+    /**
+     * Checks that all options are supported by the WireMock version.
+     * @param version WireMock version of the image
+     * @throws IllegalArgumentException an option requires a newer version
+     */
+    /*package*/ void verifyVersion(ComparableVersion version) {
+        for (Option option : values.keySet()) {
+            if (version.isLessThan(option.getMinimumVersion())) {
+                throw new IllegalArgumentException("Option " + option.getFlag() + " requires WireMock >= "
+                        + option.getMinimumVersion());
+            }
+        }
+    }
+
+    /*package*/ Map<Option, String> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Merges the options, the values of the other instance take precedence.
+     * @param other Options to merge
+     * @throws IllegalArgumentException the merged options are in conflict
+     */
+    /*package*/ void merge(WireMockOptions other) {
+        Map<Option, String> merged = new EnumMap<>(values);
+        merged.putAll(other.values);
+        if (merged.containsKey(Option.NO_REQUEST_JOURNAL) && merged.containsKey(Option.MAX_REQUEST_JOURNAL_ENTRIES)) {
+            throw new IllegalArgumentException("The request journal cannot be disabled and limited at the same time");
+        }
+        if ("false".equals(merged.get(Option.ASYNC_RESPONSE_ENABLED))) {
+            merged.remove(Option.ASYNC_RESPONSE_THREADS);
+        }
+        values.clear();
+        values.putAll(merged);
+    }
+
+    /**
+     * Get the options as CLI arguments.
+     * @return Arguments in the {@code --flag} or {@code --flag=value} form
+     */
+    public List<String> toCliArgs() {
+        List<String> args = new ArrayList<>();
+        values.forEach((option, value) -> args.add(value == null ? option.getFlag() : option.getFlag() + "=" + value));
+        return args;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", toCliArgs());
+    }
+
+    private WireMockOptions set(Option option, String value) {
+        values.put(option, value);
+        return this;
+    }
+
+    private static String positive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive, got " + value);
+        }
+        return Integer.toString(value);
+    }
+}
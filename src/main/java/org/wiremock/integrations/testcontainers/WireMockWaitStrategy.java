@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Readiness wait strategy for WireMock.
+ * It follows the container log for the startup line that WireMock prints once the server is listening,
+ * and confirms the readiness with a single health probe.
+ * If the line does not appear, e.g. for custom images with a different logging setup,
+ * the health endpoint is polled with an exponential backoff.
+ * Optionally, it also waits until WireMock reports at least the expected number of loaded mappings.
+ * If the number stops growing before that, the startup fails without waiting for the timeout.
+ */
+public class WireMockWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WireMockWaitStrategy.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    /** WireMock prints its options after the server has started, the port is always the first one */
+    private static final Pattern STARTUP_LINE = Pattern.compile("^\\s*port:\\s+\\d+", Pattern.MULTILINE);
+    private static final int PROBE_TIMEOUT_MILLIS = 1000;
+    /** Number of consecutive probes reporting the same number of mappings, after which the loading is considered finished */
+    private static final int STABLE_MAPPINGS_PROBES = 5;
+
+    private final int port;
+    private String healthCheckPath = "/__admin/health";
+    private Duration initialPollInterval = Duration.ofMillis(10);
+    private Duration maxPollInterval = Duration.ofMillis(500);
+    private int expectedMappings = 0;
+
+    /**
+     * Creates the strategy.
+     * @param port WireMock port within the container
+     */
+    public WireMockWaitStrategy(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Sets the path probed for readiness.
+     * Defaults to {@code /__admin/health}, which is available since WireMock 3.0.0.
+     * @param healthCheckPath Path returning HTTP 200 once WireMock is ready
+     * @return this instance
+     */
+    public WireMockWaitStrategy withHealthCheckPath(String healthCheckPath) {
+        this.healthCheckPath = healthCheckPath;
+        return this;
+    }
+
+    /**
+     * Sets the backoff of the polling.
+     * The interval starts from the initial one and doubles after each failed probe, up to the maximum.
+     * @param initial Initial poll interval
+     * @param max Maximum poll interval
+     * @return this instance
+     */
+    public WireMockWaitStrategy withPollInterval(Duration initial, Duration max) {
+        if (initial.isNegative() || initial.isZero() || max.compareTo(initial) < 0) {
+            throw new IllegalArgumentException("Poll intervals must be positive and the maximum must not be less than the initial one, got "
+                    + initial + " and " + max);
+        }
+        this.initialPollInterval = initial;
+        this.maxPollInterval = max;
+        return this;
+    }
+
+    /**
+     * Sets the number of mappings which must be loaded before the container is considered ready.
+     * Files with multiple stubs count as loaded once at least one stub per file is reported.
+     * If WireMock keeps reporting fewer mappings for several probes, e.g. because some stubs are invalid,
+     * the startup fails with the expected and the loaded number of mappings.
+     * @param expectedMappings Minimum number of mappings, {@code 0} disables the check
+     * @return this instance
+     */
+    public WireMockWaitStrategy withExpectedMappings(int expectedMappings) {
+        if (expectedMappings < 0) {
+            throw new IllegalArgumentException("Expected mappings must not be negative, got " + expectedMappings);
+        }
+        this.expectedMappings = expectedMappings;
+        return this;
+    }
+
+    public int getExpectedMappings() {
+        return expectedMappings;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        final long deadline = System.nanoTime() + startupTimeout.toNanos();
+        final CountDownLatch startupLine = new CountDownLatch(1);
+        final FrameConsumerResultCallback logCallback = followLog(startupLine);
+        try {
+            waitFor(deadline, startupLine, this::isHealthy, "HTTP 200 from " + healthCheckPath);
+        } finally {
+            closeLog(logCallback);
+        }
+        if (expectedMappings > 0) {
+            waitFor(deadline, null, new LoadedMappingsProbe(), expectedMappings + " loaded mappings");
+        }
+    }
+
+    private void closeLog(FrameConsumerResultCallback callback) {
+        if (callback == null) {
+            return;
+        }
+        try {
+            callback.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close the log stream of {}", waitStrategyTarget.getContainerId(), e);
+        }
+    }
+
+    private FrameConsumerResultCallback followLog(CountDownLatch startupLine) {
+        final FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        final Consumer<OutputFrame> consumer = frame -> {
+            if (STARTUP_LINE.matcher(frame.getUtf8String()).find()) {
+                startupLine.countDown();
+            }
+        };
+        callback.addConsumer(OutputFrame.OutputType.STDOUT, consumer);
+        callback.addConsumer(OutputFrame.OutputType.STDERR, consumer);
+        try {
+            waitStrategyTarget.getDockerClient()
+                    .logContainerCmd(waitStrategyTarget.getContainerId())
+                    .withFollowStream(true)
+                    .withSince(0)
+                    .withStdOut(true)
+                    .withStdErr(true)
+                    .exec(callback);
+            return callback;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Cannot follow the container log, falling back to polling", e);
+            return null;
+        }
+    }
+
+    /**
+     * Probes until the condition is met.
+     * The wait between probes is cut short when the startup line appears in the log.
+     */
+    private void waitFor(long deadline, CountDownLatch signal, BooleanSupplier probe, String description) {
+        long intervalNanos = initialPollInterval.toNanos();
+        boolean awaitingSignal = signal != null;
+        try {
+            while (!probe.getAsBoolean()) {
+                final long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new ContainerLaunchException("Timed out waiting for " + description + " on port " + port);
+                }
+                final long sleepNanos = Math.min(intervalNanos, remainingNanos);
+                if (awaitingSignal) {
+                    awaitingSignal = !signal.await(sleepNanos, TimeUnit.NANOSECONDS);
+                } else {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                }
+                intervalNanos = Math.min(intervalNanos * 2, maxPollInterval.toNanos());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for " + description, e);
+        }
+    }
+
+    private boolean isHealthy() {
+        try {
+            return get(healthCheckPath) != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get the number of mappings reported by WireMock.
+     * @return Number of mappings, {@code -1} if WireMock did not respond
+     */
+    private int loadedMappings() {
+        try {
+            final byte[] body = get("/__admin/mappings?limit=1");
+            if (body == null) {
+                return -1;
+            }
+            final JsonNode total = MAPPER.readTree(body).path("meta").path("total");
+            LOGGER.debug("WireMock reports {} loaded mappings, expected {}", total, expectedMappings);
+            return total.asInt(-1);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Checks for the expected mappings, and fails once the number of loaded mappings stops changing.
+     */
+    private final class LoadedMappingsProbe implements BooleanSupplier {
+        private int lastTotal = -1;
+        private int unchangedProbes = 0;
+
+        @Override
+        public boolean getAsBoolean() {
+            final int total = loadedMappings();
+            if (total >= expectedMappings) {
+                return true;
+            }
+            if (total >= 0 && total == lastTotal) {
+                if (++unchangedProbes >= STABLE_MAPPINGS_PROBES) {
+                    throw new ContainerLaunchException("Expected " + expectedMappings + " mappings, WireMock loaded " + total
+                            + ". Check the container log for invalid stubs");
+                }
+            } else {
+                unchangedProbes = 0;
+            }
+            lastTotal = total;
+            return false;
+        }
+    }
+
+    /**
+     * Sends a GET request to the container.
+     * @return Response body for HTTP 200, {@code null} for other status codes
+     */
+    private byte[] get(String path) throws IOException {
+        final URL url = new URL("http", waitStrategyTarget.getHost(), waitStrategyTarget.getMappedPort(port), path);
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(PROBE_TIMEOUT_MILLIS);
+        connection.setReadTimeout(PROBE_TIMEOUT_MILLIS);
+        try {
+            final int status = connection.getResponseCode();
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (InputStream is = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (is != null) {
+                    byte[] buffer = new byte[1024];
+                    int read;
+                    while ((read = is.read(buffer)) != -1) {
+                        body.write(buffer, 0, read);
+                    }
+                }
+            }
+            return status == 200 ? body.toByteArray() : null;
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
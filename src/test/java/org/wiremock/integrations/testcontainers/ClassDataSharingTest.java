@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.model.Bind;
+import com.github.dockerjava.api.model.HostConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassDataSharingTest {
+
+    @Test
+    void shouldKeyVolumeByImageAndExtensions() {
+        // when
+        String volume = ClassDataSharing.volumeName("wiremock/wiremock:3.13.2-3", Arrays.asList("b", "a"));
+
+        // then
+        assertThat(volume)
+                .as("Wrong volume name")
+                .startsWith("wiremock-cds-")
+                .isEqualTo(ClassDataSharing.volumeName("wiremock/wiremock:3.13.2-3", Arrays.asList("a", "b")))
+                .isNotEqualTo(ClassDataSharing.volumeName("wiremock/wiremock:3.13.2-3", Collections.singletonList("a")))
+                .isNotEqualTo(ClassDataSharing.volumeName("wiremock/wiremock:2.35.1-1", Arrays.asList("a", "b")));
+    }
+
+    @Test
+    void shouldParseJavaMajorVersion() {
+        assertThat(ClassDataSharing.javaMajorVersion("11.0.24")).as("Wrong Java 11 version").isEqualTo(11);
+        assertThat(ClassDataSharing.javaMajorVersion("17.0.12+7\n")).as("Wrong Java 17 version").isEqualTo(17);
+        assertThat(ClassDataSharing.javaMajorVersion("21")).as("Wrong Java 21 version").isEqualTo(21);
+        assertThat(ClassDataSharing.javaMajorVersion("1.8.0_422")).as("Wrong Java 8 version").isEqualTo(8);
+        assertThat(ClassDataSharing.javaMajorVersion("")).as("Unknown version").isEqualTo(-1);
+    }
+
+    @Test
+    void shouldAddArchiveOptionsOnlyForSupportedJava() {
+        assertThat(ClassDataSharing.SETUP_SCRIPT)
+                .as("Wrong setup script")
+                .contains("-ge " + ClassDataSharing.MINIMUM_JAVA_VERSION)
+                .contains("-XX:SharedArchiveFile=" + ClassDataSharing.ARCHIVE)
+                .contains("-XX:ArchiveClassesAtExit=" + ClassDataSharing.ARCHIVE)
+                .doesNotContain("IgnoreUnrecognizedVMOptions");
+    }
+
+    @Test
+    void shouldMountVolumeNextToExistingBinds() {
+        // given
+        HostConfig hostConfig = HostConfig.newHostConfig().withBinds(Bind.parse("/tmp/data:/data"));
+
+        // when
+        ClassDataSharing.mount(hostConfig, "wiremock-cds-test");
+
+        // then
+        assertThat(hostConfig.getBinds())
+                .as("Wrong binds")
+                .extracting(Bind::toString)
+                .containsExactly("/tmp/data:/data:rw", "wiremock-cds-test:" + ClassDataSharing.ARCHIVE_DIR + ":rw");
+    }
+
+    @Test
+    void shouldResolveVolumeOnlyWhenEnabled() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE);
+
+        // when
+        container.configure();
+        String disabledVolume = container.getClassDataSharingVolume();
+        container.withClassDataSharing(true).configure();
+
+        // then
+        assertThat(disabledVolume).as("Volume must not be used by default").isNull();
+        assertThat(container.getClassDataSharingVolume())
+                .as("Wrong volume")
+                .isEqualTo(ClassDataSharing.volumeName(TestConfig.WIREMOCK_DEFAULT_IMAGE.asCanonicalNameString(), Collections.emptyList()));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EffectiveResourcesTest {
+
+    private static final String JVM_FLAGS =
+            "     bool UseG1GC                                  = false                                     {product} {default}\n"
+                    + "   size_t InitialHeapSize                          = 268435456                                 {product} {command line}\n"
+                    + "   size_t MaxHeapSize                              = 402653184                                 {product} {ergonomic}\n"
+                    + "     bool UseParallelGC                            = true                                      {product} {command line}\n"
+                    + "openjdk version \"17.0.10\" 2024-01-16\n";
+
+    @Test
+    void shouldParseCgroupV2Limits() {
+        // when
+        EffectiveResources resources = EffectiveResources.parse("536870912\n150000 100000\n", JVM_FLAGS);
+
+        // then
+        assertThat(resources.getMemoryLimitBytes()).as("Wrong memory limit").isEqualTo(536870912L);
+        assertThat(resources.getCpus()).as("Wrong CPU quota").isEqualTo(1.5);
+        assertThat(resources.getInitialHeapBytes()).as("Wrong initial heap").isEqualTo(268435456L);
+        assertThat(resources.getMaxHeapBytes()).as("Wrong max heap").isEqualTo(402653184L);
+        assertThat(resources.getGarbageCollector()).as("Wrong GC").contains(JvmProfile.GarbageCollector.PARALLEL);
+    }
+
+    @Test
+    void shouldParseUnlimitedCgroupV1AndJava8Flags() {
+        // given
+        String java8Flags = "    uintx MaxHeapSize                              := 1073741824                          {product}\n"
+                + "     bool UseG1GC                                   = false                               {product}\n";
+
+        // when
+        EffectiveResources resources = EffectiveResources.parse("9223372036854771712\n-1 100000\n", java8Flags);
+
+        // then
+        assertThat(resources.getMemoryLimitBytes()).as("Memory must be unlimited").isEqualTo(-1);
+        assertThat(resources.getCpus()).as("CPU must be unlimited").isEqualTo(-1);
+        assertThat(resources.getMaxHeapBytes()).as("Wrong max heap").isEqualTo(1073741824L);
+        assertThat(resources.getGarbageCollector()).as("Wrong GC").isEmpty();
+    }
+
+    @Test
+    void shouldParseJcmdFlags() {
+        // given
+        String jcmdFlags = "1:\n"
+                + "   size_t MaxHeapSize                              = 134217728                                 {product} {command line}\n"
+                + "     bool UseSerialGC                              = true                                      {product} {ergonomic}\n";
+
+        // when
+        EffectiveResources resources = EffectiveResources.parse("max\nmax 100000\n", jcmdFlags);
+
+        // then
+        assertThat(resources.getMaxHeapBytes()).as("Wrong max heap").isEqualTo(134217728L);
+        assertThat(resources.getGarbageCollector()).as("Wrong GC").contains(JvmProfile.GarbageCollector.SERIAL);
+    }
+}
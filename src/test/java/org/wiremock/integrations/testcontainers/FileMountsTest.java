@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.model.AccessMode;
+import com.github.dockerjava.api.model.Bind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.MountableFile;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileMountsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMountFilesAboveThreshold() throws Exception {
+        // given
+        Path large = Files.write(tempDir.resolve("large.bin"), new byte[2048]);
+        Path small = Files.write(tempDir.resolve("small.bin"), new byte[16]);
+        List<ContainerFile> files = new ArrayList<>(Arrays.asList(
+                new ContainerFile("/home/wiremock/__files/large.bin", "a", MountableFile.forHostPath(large)),
+                new ContainerFile("/home/wiremock/__files/small.bin", "b", MountableFile.forHostPath(small)),
+                new ContainerFile("/home/wiremock/__files/inline.json", "c", Transferable.of("{}")),
+                new ContainerFile("/var/wiremock/extensions/large.jar", "d", MountableFile.forHostPath(large))));
+
+        // when
+        List<Bind> binds = FileMounts.extract(files, "/home/wiremock/__files/", 1024, () -> true);
+
+        // then
+        assertThat(binds).as("Wrong binds").hasSize(1);
+        assertThat(binds.get(0).getVolume().getPath()).as("Wrong container path").isEqualTo("/home/wiremock/__files/large.bin");
+        assertThat(binds.get(0).getAccessMode()).as("Bind must be read-only").isEqualTo(AccessMode.ro);
+        assertThat(files).as("Wrong files to copy")
+                .extracting(ContainerFile::getPath)
+                .containsExactly("/home/wiremock/__files/small.bin", "/home/wiremock/__files/inline.json",
+                        "/var/wiremock/extensions/large.jar");
+    }
+
+    @Test
+    void shouldCopyFilesForRemoteDockerHost() throws Exception {
+        // given
+        Path large = Files.write(tempDir.resolve("large.bin"), new byte[2048]);
+        List<ContainerFile> files = new ArrayList<>(Arrays.asList(
+                new ContainerFile("/home/wiremock/__files/large.bin", "a", MountableFile.forHostPath(large))));
+
+        // when
+        List<Bind> binds = FileMounts.extract(files, "/home/wiremock/__files/", 1024, () -> false);
+
+        // then
+        assertThat(binds).as("Nothing must be mounted").isEmpty();
+        assertThat(files).as("File must be copied").hasSize(1);
+    }
+
+    @Test
+    void shouldNotDigestMountedFiles() throws Exception {
+        // given
+        Path large = Files.write(tempDir.resolve("large.bin"), new byte[2048]);
+        List<ContainerFile> files = new ArrayList<>(Arrays.asList(
+                new ContainerFile("/home/wiremock/__files/large.bin", () -> {
+                    throw new AssertionError("Mounted file must not be digested");
+                }, MountableFile.forHostPath(large))));
+
+        // when
+        List<Bind> binds = FileMounts.extract(files, "/home/wiremock/__files/", 1024, () -> true);
+
+        // then
+        assertThat(binds).as("Wrong binds").hasSize(1);
+        assertThat(files).as("Mounted file must not be copied").isEmpty();
+    }
+
+    @Test
+    void shouldDetectLocalDockerHost() {
+        assertThat(FileMounts.isLocalDockerHost(URI.create("unix:///var/run/docker.sock"))).as("Unix socket is local").isTrue();
+        assertThat(FileMounts.isLocalDockerHost(URI.create("tcp://localhost:2375"))).as("Loopback is local").isTrue();
+        assertThat(FileMounts.isLocalDockerHost(URI.create("tcp://10.0.0.5:2376"))).as("Remote host is not local").isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixtureManifestCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.write(tempDir.resolve("hello.json"), "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        FixtureManifestCache.clear();
+    }
+
+    @Test
+    void reusesManifestForUnchangedDirectory() {
+        // given
+        FixtureManifest first = FixtureManifestCache.get(tempDir);
+
+        // when
+        FixtureManifest second = FixtureManifestCache.get(tempDir.resolve(".").normalize());
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void rescansModifiedFile() throws Exception {
+        // given
+        FixtureManifest first = FixtureManifestCache.get(tempDir);
+        Path file = tempDir.resolve("hello.json");
+        Files.write(file, "{ \"changed\": true }".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+
+        // when
+        FixtureManifest second = FixtureManifestCache.get(tempDir);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getEntries().get(0).getDigest())
+                .isNotEqualTo(first.getEntries().get(0).getDigest());
+    }
+
+    @Test
+    void rescansDirectoryWithNewFile() throws Exception {
+        // given
+        FixtureManifest first = FixtureManifestCache.get(tempDir);
+        Files.write(tempDir.resolve("new.json"), "{}".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(tempDir, FileTime.from(Instant.now().plusSeconds(60)));
+
+        // when
+        FixtureManifest second = FixtureManifestCache.get(tempDir);
+
+        // then
+        assertThat(second.getEntries()).hasSize(2);
+        assertThat(first.getEntries()).hasSize(1);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.model.HostConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JvmProfileTest {
+
+    @Test
+    void shouldRenderJvmOptions() {
+        // given
+        JvmProfile profile = new JvmProfile()
+                .initialHeap("256m")
+                .maxHeap("1g")
+                .garbageCollector(JvmProfile.GarbageCollector.PARALLEL)
+                .option("-XX:+AlwaysPreTouch");
+
+        // when/then
+        assertThat(profile.toJvmOptions())
+                .as("Wrong JVM options")
+                .containsExactly("-Xms256m", "-Xmx1g", "-XX:+UseParallelGC", "-XX:+AlwaysPreTouch");
+    }
+
+    @Test
+    void shouldRejectConflictingHeapSettings() {
+        // given
+        JvmProfile profile = new JvmProfile().maxHeap("512m");
+
+        // when/then
+        assertThatThrownBy(() -> profile.maxRamPercentage(75))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be set together");
+        assertThatThrownBy(() -> new JvmProfile().initialHeap("512 MB"))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Size must be a number");
+    }
+
+    @Test
+    void shouldPassProfileAsJavaOpts() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withEnv("JAVA_OPTS", "-Xmx2g")
+                .withJvmProfile(new JvmProfile().maxRamPercentage(75).garbageCollector(JvmProfile.GarbageCollector.SERIAL));
+
+        // when
+        container.configure();
+
+        // then
+        assertThat(container.getEnvMap())
+                .as("Wrong JAVA_OPTS")
+                .containsEntry("JAVA_OPTS", "-XX:MaxRAMPercentage=75.0 -XX:+UseSerialGC");
+    }
+
+    @Test
+    void shouldApplyResourceLimits() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withResources(new ContainerResources().cpus(1.5).memoryLimit("512m"));
+        HostConfig hostConfig = HostConfig.newHostConfig();
+
+        // when
+        container.applyResources(hostConfig);
+
+        // then
+        assertThat(hostConfig.getNanoCPUs()).as("Wrong CPU quota").isEqualTo(1_500_000_000L);
+        assertThat(hostConfig.getMemory()).as("Wrong memory limit").isEqualTo(512L * 1024 * 1024);
+        assertThat(hostConfig.getMemorySwap()).as("Swap must be disabled").isEqualTo(512L * 1024 * 1024);
+    }
+}
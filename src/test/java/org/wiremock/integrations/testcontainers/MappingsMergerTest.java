@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+import org.testcontainers.utility.MountableFile;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.wiremock.integrations.testcontainers.WireMockAdminClient.MAPPER;
+
+class MappingsMergerTest {
+
+    private static final String MAPPINGS_DIR = "/home/wiremock/mappings/";
+
+    @Test
+    void shouldMergeStubsIntoShards() throws Exception {
+        // given
+        List<ContainerFile> files = Arrays.asList(
+                new ContainerFile(MAPPINGS_DIR + "c.json", "c", Transferable.of("{\"request\":{\"url\":\"/c\"}}")),
+                new ContainerFile(MAPPINGS_DIR + "a.json", "a", Transferable.of("{\"request\":{\"url\":\"/a\"},\"metadata\":{\"team\":\"x\"}}")),
+                new ContainerFile(MAPPINGS_DIR + "b.json", "b",
+                        Transferable.of("{\"mappings\":[{\"request\":{\"url\":\"/b1\"}},{\"request\":{\"url\":\"/b2\"}}]}")),
+                new ContainerFile("/home/wiremock/__files/body.txt", "d", Transferable.of("body")));
+
+        // when
+        MappingsMerger.Result result = MappingsMerger.merge(files, MAPPINGS_DIR, 2);
+
+        // then
+        assertThat(result.getStubCount()).as("Wrong stub count").isEqualTo(4);
+        assertThat(result.getFiles())
+                .as("Wrong files")
+                .extracting(ContainerFile::getPath)
+                .containsExactly(MAPPINGS_DIR + "merged-0.json", MAPPINGS_DIR + "merged-1.json", "/home/wiremock/__files/body.txt");
+
+        JsonNode first = read(result.getFiles().get(0));
+        assertThat(first.get("mappings")).as("Wrong number of stubs in the first document").hasSize(3);
+        assertThat(first.at("/mappings/0/metadata/testcontainers/name").asText()).as("Wrong stub name").isEqualTo("a");
+        assertThat(first.at("/mappings/0/metadata/team").asText()).as("Metadata must be kept").isEqualTo("x");
+        assertThat(first.at("/mappings/2/request/url").asText()).as("Wrong nested stub").isEqualTo("/b2");
+        assertThat(first.at("/mappings/2/metadata/testcontainers/name").asText()).as("Wrong nested stub name").isEqualTo("b");
+        assertThat(read(result.getFiles().get(1)).at("/mappings/0/metadata/testcontainers/name").asText())
+                .as("Wrong stub name in the second document")
+                .isEqualTo("c");
+    }
+
+    @Test
+    void shouldCountMergedStubsForReadiness() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withMappingFromJSON("first", "{\"request\":{\"url\":\"/first\"}}")
+                .withMappingFromJSON("multi", "{\"mappings\":[{\"request\":{\"url\":\"/a\"}},{\"request\":{\"url\":\"/b\"}}]}")
+                .withMergedMappings(true)
+                .withLoadedMappingsCheck(true);
+
+        // when
+        container.configure();
+
+        // then
+        assertThat(container.getReadinessWaiter().getExpectedMappings())
+                .as("Wrong number of expected mappings")
+                .isEqualTo(3);
+    }
+
+    private static JsonNode read(ContainerFile file) throws Exception {
+        return MAPPER.readTree(Paths.get(((MountableFile) file.getContent()).getResolvedPath()).toFile());
+    }
+}
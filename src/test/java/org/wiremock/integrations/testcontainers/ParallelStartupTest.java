@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelStartupTest {
+
+    @Test
+    void shouldStartContainersConcurrently() {
+        // given
+        CountDownLatch allStarting = new CountDownLatch(3);
+        FakeContainer[] containers = {new FakeContainer(allStarting), new FakeContainer(allStarting), new FakeContainer(allStarting)};
+
+        // when
+        long startedAt = System.nanoTime();
+        WireMockContainer.startAll(containers);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt))
+                .as("Containers must wait for each other, which is only possible when started concurrently")
+                .isLessThan(Duration.ofSeconds(5));
+        assertThat(containers).as("All containers must be started").allMatch(container -> container.started);
+    }
+
+    @Test
+    void shouldCancelOtherStartsOnFailure() {
+        // given
+        CountDownLatch slowStarting = new CountDownLatch(2);
+        FakeContainer slow = new FakeContainer(slowStarting);
+        FakeContainer failing = new FakeContainer(null, slowStarting);
+
+        // when/then
+        assertThatThrownBy(() -> WireMockContainer.startAll(Arrays.asList(slow, failing)))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Boom");
+        assertThat(slow.interrupted).as("Slow start must be interrupted").isTrue();
+        assertThat(slow.stopped && failing.stopped).as("All containers must be stopped").isTrue();
+    }
+
+    @Test
+    void shouldStartAsync() throws Exception {
+        // given
+        FakeContainer container = new FakeContainer(new CountDownLatch(0));
+
+        // when
+        WireMockContainer started = container.startAsync().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(started).as("Wrong container").isSameAs(container);
+        assertThat(container.started).as("Container must be started").isTrue();
+    }
+
+    /**
+     * Counts down and waits for the latch on start, or fails once the other container is starting.
+     */
+    private static class FakeContainer extends WireMockContainer {
+        private final CountDownLatch latch;
+        private final CountDownLatch failAfter;
+        volatile boolean started;
+        volatile boolean interrupted;
+        volatile boolean stopped;
+
+        FakeContainer(CountDownLatch latch) {
+            this(latch, null);
+        }
+
+        FakeContainer(CountDownLatch latch, CountDownLatch failAfter) {
+            super(TestConfig.WIREMOCK_DEFAULT_IMAGE);
+            this.latch = latch;
+            this.failAfter = failAfter;
+        }
+
+        @Override
+        public void start() {
+            if (failAfter != null) {
+                while (failAfter.getCount() > 1) {
+                    Thread.yield();
+                }
+                throw new IllegalStateException("Boom");
+            }
+            latch.countDown();
+            try {
+                if (!latch.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Timed out");
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+                throw new IllegalStateException("Interrupted", e);
+            }
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+    }
+}
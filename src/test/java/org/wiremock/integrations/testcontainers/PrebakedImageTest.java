@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrebakedImageTest {
+
+    private static final String BASE_IMAGE_ID = "sha256:0123456789abcdef";
+
+    @Test
+    void hashIsStableForSameConfiguration() {
+        // given
+        List<ContainerFile> first = filesOf("{ \"id\": 1 }");
+        List<ContainerFile> second = filesOf("{ \"id\": 1 }");
+
+        // then
+        assertThat(PrebakedImage.configurationHash(BASE_IMAGE_ID, first))
+                .isEqualTo(PrebakedImage.configurationHash(BASE_IMAGE_ID, second))
+                .hasSize(32);
+    }
+
+    @Test
+    void hashChangesWithContent() {
+        // given
+        List<ContainerFile> first = filesOf("{ \"id\": 1 }");
+        List<ContainerFile> second = filesOf("{ \"id\": 2 }");
+
+        // then
+        assertThat(PrebakedImage.configurationHash(BASE_IMAGE_ID, first))
+                .isNotEqualTo(PrebakedImage.configurationHash(BASE_IMAGE_ID, second));
+    }
+
+    @Test
+    void hashChangesWithBaseImage() {
+        // given
+        List<ContainerFile> files = filesOf("{ \"id\": 1 }");
+
+        // then
+        assertThat(PrebakedImage.configurationHash(BASE_IMAGE_ID, files))
+                .isNotEqualTo(PrebakedImage.configurationHash("sha256:fedcba9876543210", files));
+    }
+
+    @Test
+    void hashDoesNotDependOnOrder() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withMappingFromJSON("first", "{ \"id\": 1 }")
+                .withMappingFromJSON("second", "{ \"id\": 2 }");
+        List<ContainerFile> files = container.collectContainerFiles();
+        List<ContainerFile> reversed = container.collectContainerFiles();
+        Collections.reverse(reversed);
+
+        // then
+        assertThat(PrebakedImage.configurationHash(BASE_IMAGE_ID, files))
+                .isEqualTo(PrebakedImage.configurationHash(BASE_IMAGE_ID, reversed));
+    }
+
+    private static List<ContainerFile> filesOf(String json) {
+        return new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withMappingFromJSON("stub", json)
+                .collectContainerFiles();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class RequestEventStreamTest {
+
+    private final RequestEventStream stream = new RequestEventStream(2);
+
+    @Test
+    void shouldParseRequestLines() throws Exception {
+        // given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        stream.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // when
+        log("2026-10-17 10:00:00.000 Request received:");
+        log("172.17.0.1 - GET /hello?name=world");
+        log("");
+        log("Host: [localhost:8080]");
+        log("2026-10-17 10:00:00.100 Request received:\n172.17.0.1 - POST /orders\n\nContent-Type: [application/json]");
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(subscriber.events).as("Wrong number of events").hasSize(2));
+        RequestEvent first = subscriber.events.get(0);
+        assertThat(first.getClientAddress()).as("Wrong client address").isEqualTo("172.17.0.1");
+        assertThat(first.getMethod()).as("Wrong method").isEqualTo("GET");
+        assertThat(first.getUrl()).as("Wrong URL").isEqualTo("/hello?name=world");
+        assertThat(subscriber.events.get(1).getUrl()).as("Wrong URL").isEqualTo("/orders");
+    }
+
+    @Test
+    void shouldDeliverOnlyRequestedEvents() throws Exception {
+        // given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        RequestEventStream.Subscription subscription = stream.subscribe(subscriber);
+        subscription.request(1);
+
+        // when
+        log("Request received:\n127.0.0.1 - GET /event/0");
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(subscriber.events).as("Wrong number of events").hasSize(1));
+        for (int i = 1; i < 5; i++) {
+            log("Request received:\n127.0.0.1 - GET /event/" + i);
+        }
+
+        // then
+        // The demand is exhausted, the buffer of 2 keeps the next events, the rest is dropped
+        assertThat(subscriber.events).as("Wrong number of events").hasSize(1);
+        assertThat(subscription.getDroppedEvents()).as("Wrong number of dropped events").isEqualTo(2);
+
+        // when
+        subscription.request(10);
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(subscriber.events).as("Wrong events")
+                        .extracting(RequestEvent::getUrl)
+                        .containsExactly("/event/0", "/event/1", "/event/2"));
+    }
+
+    @Test
+    void shouldAwaitMatchingEvent() throws Exception {
+        // given
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log("Request received:\n127.0.0.1 - GET /other");
+            log("Request received:\n127.0.0.1 - POST /callback");
+        });
+
+        // when
+        producer.start();
+        RequestEvent event = stream.awaitEvent(e -> e.getUrl().equals("/callback"), Duration.ofSeconds(5));
+
+        // then
+        assertThat(event.getMethod()).as("Wrong method").isEqualTo("POST");
+    }
+
+    @Test
+    void shouldFailWithoutMatchingEvent() {
+        assertThatThrownBy(() -> stream.awaitEvent(e -> true, Duration.ofMillis(50)))
+                .as("Wrong exception")
+                .isInstanceOf(AssertionError.class);
+    }
+
+    private void log(String line) {
+        stream.accept(new OutputFrame(OutputFrame.OutputType.STDOUT, line.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static final class RecordingSubscriber implements RequestEventStream.Subscriber {
+        private final List<RequestEvent> events = new CopyOnWriteArrayList<>();
+        private RequestEventStream.Subscription subscription;
+
+        @Override
+        public void onSubscribe(RequestEventStream.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(RequestEvent event) {
+            events.add(event);
+        }
+    }
+}
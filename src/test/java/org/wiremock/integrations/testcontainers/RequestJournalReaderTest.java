@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link RequestJournalReader} against a fake admin API, without Docker.
+ */
+class RequestJournalReaderTest {
+
+    private HttpServer server;
+    private WireMockAdminClient client;
+    private static final long BASE_MILLIS = 1_700_000_000_000L;
+
+    private final Queue<String> queries = new ConcurrentLinkedQueue<>();
+    /** Number of requests in the journal served by the fake, newest first */
+    private volatile int journalSize = 3;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/__admin/requests", this::handleRequests);
+        server.start();
+        client = new WireMockAdminClient("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldParseRequests() {
+        // when
+        final List<LoggedRequest> requests;
+        try (Stream<LoggedRequest> stream = client.requestJournal()
+                .since(Instant.parse("2023-01-01T00:00:00Z"))
+                .limit(10)
+                .stream()) {
+            requests = stream.collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(queries).as("Wrong query").containsExactly("since=2023-01-01T00:00:00Z&limit=10");
+        assertThat(requests).as("Wrong number of requests").hasSize(3);
+        LoggedRequest newest = requests.get(0);
+        assertThat(newest.getId()).as("Wrong ID").isEqualTo("id-3");
+        assertThat(newest.getMethod()).as("Wrong method").isEqualTo("POST");
+        assertThat(newest.getUrl()).as("Wrong URL").isEqualTo("/orders/3");
+        assertThat(newest.getHeaders()).as("Wrong headers").containsEntry("Accept", "text/plain,application/json");
+        assertThat(newest.getBody()).as("Wrong body").isEqualTo("{\"order\":3}");
+        assertThat(newest.getResponseStatus()).as("Wrong status").isEqualTo(201);
+        assertThat(newest.getLoggedDate()).as("Wrong logged date").isEqualTo(Instant.ofEpochMilli(BASE_MILLIS + 3));
+    }
+
+    @Test
+    void shouldStreamLargeJournalLazily() {
+        // given
+        journalSize = 100_000;
+
+        // when
+        long count;
+        try (Stream<LoggedRequest> stream = client.requestJournal().stream()) {
+            count = stream.filter(r -> r.getResponseStatus() == 201).count();
+        }
+
+        // then
+        assertThat(count).as("Wrong number of requests").isEqualTo(100_000);
+    }
+
+    @Test
+    void shouldReadOnlyNewRequests() {
+        // given
+        RequestJournalReader reader = client.requestJournal();
+
+        // when
+        List<String> firstRead;
+        try (Stream<LoggedRequest> requests = reader.readNewRequests()) {
+            firstRead = requests.map(LoggedRequest::getId).collect(Collectors.toList());
+        }
+        // Two more requests arrive, one of them within the same millisecond as the previous newest one
+        journalSize = 5;
+        List<String> secondRead;
+        try (Stream<LoggedRequest> requests = reader.readNewRequests()) {
+            secondRead = requests.map(LoggedRequest::getId).collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(firstRead).as("Wrong first read").containsExactly("id-3", "id-2", "id-1");
+        assertThat(secondRead).as("Wrong second read").containsExactly("id-5", "id-4");
+    }
+
+    @Test
+    void shouldRejectReadingNewRequestsWithLimit() {
+        // given
+        RequestJournalReader reader = client.requestJournal().limit(2);
+
+        // when/then
+        assertThatThrownBy(reader::readNewRequests)
+                .as("Wrong exception")
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("limit of 2");
+    }
+
+    private void handleRequests(HttpExchange exchange) throws IOException {
+        final String query = exchange.getRequestURI().getQuery();
+        queries.add(query == null ? "" : query);
+        long since = Long.MIN_VALUE;
+        if (query != null && query.startsWith("since=")) {
+            since = Instant.parse(query.split("&")[0].substring("since=".length())).toEpochMilli();
+        }
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream os = exchange.getResponseBody();
+             Writer writer = new OutputStreamWriter(os, StandardCharsets.UTF_8)) {
+            writer.write("{\"requests\":[");
+            boolean first = true;
+            for (int i = journalSize; i >= 1; i--) {
+                // Requests 3 and 4 share the same millisecond
+                long loggedDate = BASE_MILLIS + (i <= 3 ? i : i - 1);
+                if (loggedDate <= since) {
+                    continue;
+                }
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writer.write("{\"id\":\"id-" + i + "\",\"request\":{\"url\":\"/orders/" + i + "\",\"method\":\"POST\","
+                        + "\"headers\":{\"Accept\":[\"text/plain\",\"application/json\"]},\"body\":\"{\\\"order\\\":" + i + "}\","
+                        + "\"loggedDate\":" + loggedDate + "},\"response\":{\"status\":201},\"wasMatched\":true}");
+            }
+            writer.write("],\"meta\":{\"total\":" + journalSize + "},\"requestJournalDisabled\":false}");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestPatternTest {
+
+    @Test
+    void shouldBuildWireMockPattern() throws Exception {
+        // given
+        RequestPattern pattern = RequestPattern.post()
+                .withUrlPath("/orders")
+                .withHeader("Content-Type", "application/json")
+                .withQueryParam("dryRun", "false")
+                .withRequestBodyEqualToJson("{\"id\":1}")
+                .withRequestBodyContaining("id");
+
+        // when
+        JsonNode json = WireMockAdminClient.MAPPER.readTree(pattern.toJson());
+
+        // then
+        assertThat(json.path("method").asText()).as("Wrong method").isEqualTo("POST");
+        assertThat(json.path("urlPath").asText()).as("Wrong URL path").isEqualTo("/orders");
+        assertThat(json.path("headers").path("Content-Type").path("equalTo").asText())
+                .as("Wrong header matcher")
+                .isEqualTo("application/json");
+        assertThat(json.path("queryParameters").path("dryRun").path("equalTo").asText())
+                .as("Wrong query matcher")
+                .isEqualTo("false");
+        assertThat(json.path("bodyPatterns")).as("Wrong number of body patterns").hasSize(2);
+    }
+
+    @Test
+    void shouldKeepOnlyLastUrlMatcher() throws Exception {
+        // given
+        RequestPattern pattern = RequestPattern.anyMethod()
+                .withUrl("/orders?id=1")
+                .withUrlPathMatching("/orders/.*");
+
+        // when
+        JsonNode json = WireMockAdminClient.MAPPER.readTree(pattern.toJson());
+
+        // then
+        assertThat(json.has("url")).as("URL matcher must be replaced").isFalse();
+        assertThat(json.path("urlPathPattern").asText()).as("Wrong URL matcher").isEqualTo("/orders/.*");
+        assertThat(json.path("method").asText()).as("Wrong method").isEqualTo("ANY");
+    }
+}
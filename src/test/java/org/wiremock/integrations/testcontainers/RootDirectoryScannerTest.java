@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RootDirectoryScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void scansNestedFiles() {
+        // when
+        FixtureManifest manifest = RootDirectoryScanner.scan(Paths.get("src/test/resources/root-dir/__files"));
+
+        // then
+        assertThat(manifest.getEntries().stream().map(FixtureManifest.Entry::getRelativePath).collect(Collectors.toList()))
+                .containsExactly("nested/root-dir-nested-file.json", "root-dir-file.json");
+    }
+
+    @Test
+    void recordsSizeAndDigest() throws Exception {
+        // given
+        byte[] content = "{ \"message\": \"hello\" }".getBytes(StandardCharsets.UTF_8);
+        Files.write(tempDir.resolve("hello.json"), content);
+
+        // when
+        FixtureManifest manifest = RootDirectoryScanner.scan(tempDir);
+
+        // then
+        assertThat(manifest.getEntries()).hasSize(1);
+        FixtureManifest.Entry entry = manifest.getEntries().get(0);
+        assertThat(entry.getSize()).isEqualTo(content.length);
+        assertThat(entry.getDigest()).isEqualTo(ContentDigest.of(content));
+        assertThat(manifest.getTotalSize()).isEqualTo(content.length);
+    }
+
+    @Test
+    void digestsOnFirstUseIfNotDigestedDuringScan() throws Exception {
+        // given
+        byte[] content = "{ \"message\": \"hello\" }".getBytes(StandardCharsets.UTF_8);
+        Files.write(tempDir.resolve("hello.json"), content);
+
+        // when
+        FixtureManifest manifest = RootDirectoryScanner.scan(tempDir, false);
+
+        // then
+        assertThat(manifest.getEntries()).hasSize(1);
+        assertThat(manifest.getEntries().get(0).getDigest()).isEqualTo(ContentDigest.of(content));
+    }
+
+    @Test
+    void missingDirectoryIsEmpty() {
+        // when
+        FixtureManifest manifest = RootDirectoryScanner.scan(tempDir.resolve("missing"));
+
+        // then
+        assertThat(manifest.getEntries()).isEmpty();
+    }
+
+    @Test
+    void followsSymbolicLinks() throws Exception {
+        // given
+        Path target = Files.createDirectories(tempDir.resolve("target"));
+        Files.write(target.resolve("file.json"), "{}".getBytes(StandardCharsets.UTF_8));
+        Path scanned = Files.createDirectories(tempDir.resolve("scanned"));
+        Files.createSymbolicLink(scanned.resolve("linked"), target);
+
+        // when
+        FixtureManifest manifest = RootDirectoryScanner.scan(scanned);
+
+        // then
+        assertThat(manifest.getEntries()).hasSize(1);
+        assertThat(manifest.getEntries().get(0).getRelativePath()).isEqualTo("linked/file.json");
+    }
+
+    @Test
+    void reportsSymbolicLinkLoops() throws Exception {
+        // given
+        Path nested = Files.createDirectories(tempDir.resolve("nested"));
+        Files.createSymbolicLink(nested.resolve("loop"), tempDir);
+
+        // when
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RootDirectoryScanner.scan(tempDir));
+
+        // then
+        assertThat(ex.getMessage())
+                .as("Wrong exception message")
+                .contains("symbolic link loop");
+    }
+
+    @Test
+    void reportsBrokenLinks() throws Exception {
+        // given
+        Files.createSymbolicLink(tempDir.resolve("broken.json"), tempDir.resolve("missing.json"));
+
+        // when
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RootDirectoryScanner.scan(tempDir));
+
+        // then
+        assertThat(ex.getMessage())
+                .as("Wrong exception message")
+                .contains("broken.json");
+    }
+}
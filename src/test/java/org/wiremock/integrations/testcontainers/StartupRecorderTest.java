@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.images.builder.Transferable;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StartupRecorderTest {
+
+    @Test
+    void shouldReportAllPhases() throws Exception {
+        // given
+        StartupRecorder recorder = new StartupRecorder();
+        Transferable transferable = recorder.record(Transferable.of("{\"request\":{}}"), 1);
+
+        // when
+        recorder.configureStarted();
+        recorder.configureFinished();
+        recorder.createStarted();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(new ByteArrayOutputStream())) {
+            transferable.transferTo(tar, "/home/wiremock/mappings/stub.json");
+        }
+        recorder.processStarted();
+        recorder.readinessStarted();
+        recorder.readinessFinished();
+        StartupReport report = recorder.toReport("wiremock/wiremock:3.13.2");
+
+        // then
+        assertThat(report.getTransfers()).as("Wrong number of transfers").isEqualTo(1);
+        assertThat(report.getTransferredFiles()).as("Wrong number of transferred files").isEqualTo(1);
+        assertThat(report.getTransferredBytes()).as("Wrong number of transferred bytes").isEqualTo(14);
+        assertThat(report.getTotal())
+                .as("Wrong total")
+                .isEqualTo(report.getConfiguration().plus(report.getImageResolution())
+                        .plus(report.getContainerCreation()).plus(report.getFileTransfer())
+                        .plus(report.getProcessStart()).plus(report.getReadiness()));
+        assertThat(report.toString()).as("Wrong report").contains("1 files, 14 bytes");
+
+        // JFR emission must not fail regardless of the recording state
+        StartupRecorder.emit(report);
+    }
+
+    @Test
+    void shouldReportZeroForMissingPhases() {
+        // given
+        StartupRecorder recorder = new StartupRecorder();
+
+        // when
+        recorder.configureStarted();
+        recorder.configureFinished();
+        StartupReport report = recorder.toReport("wiremock/wiremock:3.13.2");
+
+        // then
+        assertThat(report.getFileTransfer()).as("Wrong file transfer time").isEqualTo(Duration.ZERO);
+        assertThat(report.getReadiness()).as("Wrong readiness time").isEqualTo(Duration.ZERO);
+        assertThat(report.getTransferredFiles()).as("Wrong number of transferred files").isZero();
+    }
+
+    @Test
+    void shouldFailWithoutStartup() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE);
+
+        // when/then
+        assertThatThrownBy(container::getStartupReport)
+                .as("Wrong exception")
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
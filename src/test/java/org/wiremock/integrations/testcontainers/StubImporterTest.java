@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
+import org.testcontainers.utility.ComparableVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link StubImporter} against a fake admin API, without Docker.
+ */
+class StubImporterTest {
+
+    private final Queue<JsonNode> imports = new ConcurrentLinkedQueue<>();
+    private HttpServer server;
+    private WireMockAdminClient client;
+    private volatile int status = 200;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/__admin/mappings/import", this::handleImport);
+        server.start();
+        client = new WireMockAdminClient("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldImportInBatches() {
+        // given
+        List<String> stubs = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            stubs.add("{\"request\":{\"url\":\"/stub/" + i + "\"}}");
+        }
+
+        // when
+        StubImporter.Report report = client.stubImporter()
+                .withBatchSize(10)
+                .withParallelism(2)
+                .importStubs(stubs);
+
+        // then
+        assertThat(report.getStubCount()).as("Wrong stub count").isEqualTo(25);
+        assertThat(report.getBatchLatencies()).as("Wrong number of batches").hasSize(3);
+        assertThat(imports).as("Wrong number of requests").hasSize(3);
+        int imported = 0;
+        for (JsonNode body : imports) {
+            imported += body.path("mappings").size();
+            assertThat(body.path("importOptions").path("duplicatePolicy").asText())
+                    .as("Wrong duplicate policy")
+                    .isEqualTo("OVERWRITE");
+        }
+        assertThat(imported).as("Wrong number of imported stubs").isEqualTo(25);
+    }
+
+    @Test
+    void shouldFailOnRejectedBatch() {
+        // given
+        status = 422;
+
+        // when/then
+        assertThatThrownBy(() -> client.stubImporter().importStubs(Collections.singletonList("{}")))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("HTTP 422");
+    }
+
+    @Test
+    void shouldFailOnErrorInBatch() {
+        // given
+        List<String> stubs = new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                throw new AssertionError("Broken stub " + index);
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+        };
+
+        // when/then
+        assertThatThrownBy(() -> client.stubImporter().withBatchSize(1).importStubs(stubs))
+                .as("Wrong exception")
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Broken stub");
+    }
+
+    @Test
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> client.stubImporter().withBatchSize(0))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectOldWireMockVersion() {
+        // given
+        WireMockAdminClient oldClient = new WireMockAdminClient(client.getBaseUrl(), new ComparableVersion("2.27.2"));
+
+        // when/then
+        assertThatThrownBy(oldClient::stubImporter)
+                .as("Wrong exception")
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("requires WireMock >= " + WireMockContainer.WIREMOCK_STUB_IMPORT_MINIMUM_VERSION);
+    }
+
+    private void handleImport(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (InputStream is = exchange.getRequestBody()) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+        }
+        imports.add(WireMockAdminClient.MAPPER.readTree(body.toByteArray()));
+        byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(response);
+        }
+    }
+}
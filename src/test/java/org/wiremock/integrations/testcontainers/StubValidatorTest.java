@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.images.builder.Transferable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StubValidatorTest {
+
+    private static final String MAPPINGS_DIR = "/home/wiremock/mappings/";
+
+    @Test
+    void shouldReportErrorsWithLocation() {
+        // given
+        List<ContainerFile> mappings = Arrays.asList(
+                mapping("valid", "{\"request\":{\"url\":\"/valid\"},\"response\":{\"status\":200}}"),
+                mapping("valid-multi", "{\"mappings\":[{\"request\":{\"url\":\"/a\"}}]}"),
+                mapping("broken", "{\n  \"request\": {\n    \"url\": \"/broken\"\n  ,\n}"),
+                mapping("no-request", "{\"response\":{\"status\":200}}"),
+                mapping("invalid-multi", "{\"mappings\":[{\"request\":{\"url\":\"/a\"}},{\"response\":{}}]}"));
+
+        // when
+        List<String> errors = StubValidator.validate(mappings);
+
+        // then
+        assertThat(errors).as("Wrong number of errors").hasSize(3);
+        assertThat(errors.get(0)).as("Wrong syntax error").isEqualTo(MAPPINGS_DIR + "broken.json:5:1: Unexpected character ('}' (code 125)): was expecting double-quote to start field name");
+        assertThat(errors.get(1))
+                .as("Wrong error for the multi-stub mapping")
+                .isEqualTo(MAPPINGS_DIR + "invalid-multi.json (mappings[1]): stub must have a 'request' object");
+        assertThat(errors.get(2))
+                .as("Wrong error for the missing request")
+                .isEqualTo(MAPPINGS_DIR + "no-request.json: stub must have a 'request' object");
+    }
+
+    @Test
+    void shouldFailStartupInStrictMode() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withMappingFromJSON("broken", "{\"request\": ")
+                .withStubValidation(StubValidation.STRICT);
+
+        // when/then
+        assertThatThrownBy(container::configure)
+                .as("Wrong exception")
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid mappings:")
+                .hasMessageContaining(MAPPINGS_DIR + "broken.json:1:");
+    }
+
+    @Test
+    void shouldOnlyWarnInLenientMode() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withMappingFromJSON("broken", "{\"request\": ");
+
+        // when
+        container.configure();
+
+        // then
+        assertThat(container.collectContainerFiles())
+                .as("Container must be configured with the invalid mapping")
+                .extracting(ContainerFile::getPath)
+                .containsExactly(MAPPINGS_DIR + "broken.json");
+    }
+
+    private static ContainerFile mapping(String name, String json) {
+        return new ContainerFile(MAPPINGS_DIR + name + ".json", name, Transferable.of(json));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.model.HostConfig;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.images.builder.Transferable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TmpfsStorageTest {
+
+    private static final List<String> DIRS = Arrays.asList("mappings/", "__files/");
+
+    @Test
+    void shouldStageFixturesOnly() {
+        // given
+        List<ContainerFile> files = Arrays.asList(
+                new ContainerFile("/home/wiremock/mappings/hello.json", "a", Transferable.of("{}")),
+                new ContainerFile("/home/wiremock/__files/body.txt", "b", Transferable.of(new byte[1024])),
+                new ContainerFile("/var/wiremock/extensions/extension.jar", "c", Transferable.of(new byte[4096])));
+
+        // when
+        List<ContainerFile> staged = TmpfsStorage.stage(files, "/home/wiremock/", DIRS);
+
+        // then
+        assertThat(staged)
+                .as("Wrong paths")
+                .extracting(ContainerFile::getPath)
+                .containsExactly(TmpfsStorage.STAGING_DIR + "mappings/hello.json", TmpfsStorage.STAGING_DIR + "__files/body.txt",
+                        "/var/wiremock/extensions/extension.jar");
+        assertThat(TmpfsStorage.sizeFor(staged))
+                .as("Size must cover the staged fixtures with headroom, but not the extensions")
+                .isGreaterThan(1026)
+                .isLessThan(1026 + 4096 + 32 * 1024 * 1024);
+    }
+
+    @Test
+    void shouldMountTmpfsForEachDirectory() {
+        // given
+        HostConfig hostConfig = HostConfig.newHostConfig();
+
+        // when
+        TmpfsStorage.mount(hostConfig, "/home/wiremock/", DIRS, 1024);
+
+        // then
+        assertThat(hostConfig.getTmpFs())
+                .as("Wrong tmpfs mounts")
+                .containsEntry("/home/wiremock/mappings", "rw,size=1024")
+                .containsEntry("/home/wiremock/__files", "rw,size=1024");
+    }
+}
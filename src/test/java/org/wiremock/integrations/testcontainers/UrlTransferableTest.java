@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.shaded.com.google.common.io.ByteStreams;
+import org.testcontainers.shaded.com.google.common.io.Resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UrlTransferableTest {
+
+    private final URL url = Resources.getResource(WireMockContainerTest.class, "WireMockContainerTest/hello-world.json");
+
+    @Test
+    void streamsContentIntoArchive() throws Exception {
+        // given
+        UrlTransferable transferable = new UrlTransferable(url);
+
+        // when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes)) {
+            transferable.transferTo(tar, "/home/wiremock/mappings/hello.json");
+        }
+
+        // then
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            TarArchiveEntry entry = tar.getNextTarEntry();
+            assertThat(entry.getName()).isEqualTo("home/wiremock/mappings/hello.json");
+            assertThat(entry.getSize()).isEqualTo(transferable.getSize());
+            assertThat(ByteStreams.toByteArray(tar)).isEqualTo(Resources.toByteArray(url));
+        }
+    }
+
+    @Test
+    void resourceMappingIsReadLazily() {
+        // given
+        WireMockContainer wireMockContainer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withMappingFromResource("hello", url);
+
+        // when
+        List<ContainerFile> files = wireMockContainer.collectContainerFiles();
+
+        // then
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getContent()).isInstanceOf(UrlTransferable.class);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link WireMockAdminClient} against a fake admin API, without Docker.
+ */
+class WireMockAdminClientTest {
+
+    private static final UUID STUB_ID = UUID.fromString("0e4ad2b5-6f43-4c53-a3a4-0f36e5b2b2a1");
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private WireMockAdminClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/__admin/mappings", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 201, "{\"id\":\"" + STUB_ID + "\"}");
+            } else if (path.endsWith(STUB_ID.toString())) {
+                respond(exchange, 200, "{\"id\":\"" + STUB_ID + "\"}");
+            } else if (path.equals("/__admin/mappings")) {
+                respond(exchange, 200, "{\"mappings\":[],\"meta\":{\"total\":42}}");
+            } else {
+                respond(exchange, 404, "");
+            }
+        });
+        server.createContext("/__admin/scenarios", exchange ->
+                respond(exchange, 200, "{\"scenarios\":[{\"name\":\"cart\",\"state\":\"Started\",\"possibleStates\":[\"Started\",\"Full\"]}]}"));
+        server.createContext("/__admin/requests/count", exchange -> respond(exchange, 200, "{\"count\":3}"));
+        server.createContext("/__admin/requests/unmatched", exchange ->
+                respond(exchange, 200, "{\"requests\":[{\"url\":\"/missing\",\"method\":\"GET\",\"loggedDate\":0}]}"));
+        server.createContext("/__admin/reset", exchange -> respond(exchange, 500, "Broken"));
+        server.start();
+        client = new WireMockAdminClient("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldManageStubs() {
+        // when
+        UUID id = client.createStub("{\"request\":{\"url\":\"/hello\"}}");
+        Optional<String> stub = client.getStub(id);
+        Optional<String> missing = client.getStub(UUID.randomUUID());
+        int count = client.getStubCount();
+
+        // then
+        assertThat(id).as("Wrong stub ID").isEqualTo(STUB_ID);
+        assertThat(stub).as("Wrong stub").hasValueSatisfying(json -> assertThat(json).contains(STUB_ID.toString()));
+        assertThat(missing).as("Stub must be missing").isEmpty();
+        assertThat(count).as("Wrong stub count").isEqualTo(42);
+    }
+
+    @Test
+    void shouldParseScenarios() {
+        // when
+        List<WireMockAdminClient.Scenario> scenarios = client.getScenarios();
+
+        // then
+        assertThat(scenarios).as("Wrong number of scenarios").hasSize(1);
+        assertThat(scenarios.get(0).getName()).as("Wrong scenario name").isEqualTo("cart");
+        assertThat(scenarios.get(0).getState()).as("Wrong scenario state").isEqualTo("Started");
+        assertThat(scenarios.get(0).getPossibleStates()).as("Wrong possible states").containsExactly("Started", "Full");
+    }
+
+    @Test
+    void shouldReuseConnections() {
+        // when
+        for (int i = 0; i < 50; i++) {
+            client.getStubCount();
+            client.getStub(UUID.randomUUID());
+        }
+
+        // then
+        assertThat(clientPorts).as("Connections must be kept alive").hasSize(1);
+    }
+
+    @Test
+    void shouldFailOnServerError() {
+        assertThatThrownBy(client::reset)
+                .as("Wrong exception")
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("POST /__admin/reset returned HTTP 500: Broken");
+    }
+
+    @Test
+    void shouldVerifyCount() {
+        // when/then
+        client.verify(3, RequestPattern.get().withUrl("/hello"));
+        client.verify(RequestPattern.get().withUrl("/hello"));
+        assertThatThrownBy(() -> client.verify(2, RequestPattern.get().withUrl("/hello")))
+                .as("Wrong verification error")
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expected exactly 2 requests")
+                .hasMessageContaining("but received 3");
+    }
+
+    @Test
+    void shouldReportUnmatchedRequests() {
+        // when/then
+        assertThatThrownBy(client::verifyNoUnmatchedRequests)
+                .as("Wrong verification error")
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("GET /missing");
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        try (InputStream is = exchange.getRequestBody()) {
+            while (is.read() != -1) {
+                // Skip the request body
+            }
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
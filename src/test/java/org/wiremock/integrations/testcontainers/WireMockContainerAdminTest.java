@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.wiremock.integrations.testcontainers.testsupport.http.HttpResponse;
+import org.wiremock.integrations.testcontainers.testsupport.http.TestHttpClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WireMockContainerAdminTest {
+
+    WireMockContainer wiremockServer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+            .withMapping("hello", WireMockContainerTest.class, "hello-world.json");
+
+    @BeforeEach
+    public void setup() {
+        wiremockServer.start();
+        assertThat(wiremockServer.isRunning()).isTrue();
+    }
+
+    @Test
+    void shouldCreateAndResetStubs() throws Exception {
+        // given
+        WireMockAdminClient admin = wiremockServer.admin();
+
+        // when
+        UUID id = admin.createStub("{\"request\":{\"method\":\"GET\",\"url\":\"/runtime\"},"
+                + "\"response\":{\"status\":200,\"body\":\"Added at runtime\"}}");
+        HttpResponse response = new TestHttpClient().get(wiremockServer.getUrl("/runtime"));
+
+        // then
+        assertThat(response.getBody()).as("Wrong response body").isEqualTo("Added at runtime");
+        assertThat(admin.getStub(id)).as("Stub must exist").isPresent();
+        assertThat(admin.getStubCount()).as("Wrong stub count").isEqualTo(2);
+
+        // when
+        admin.reset();
+
+        // then
+        assertThat(admin.getStub(id)).as("Stub must be removed").isEmpty();
+        assertThat(admin.getStubCount()).as("Wrong stub count").isEqualTo(1);
+    }
+
+    @Test
+    void shouldImportStubsInBatches() throws Exception {
+        // given
+        List<String> stubs = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            stubs.add("{\"request\":{\"method\":\"GET\",\"url\":\"/imported/" + i + "\"},"
+                    + "\"response\":{\"status\":200,\"body\":\"Imported " + i + "\"}}");
+        }
+
+        // when
+        StubImporter.Report report = wiremockServer.admin().stubImporter()
+                .withBatchSize(1000)
+                .withParallelism(3)
+                .importStubs(stubs);
+        HttpResponse response = new TestHttpClient().get(wiremockServer.getUrl("/imported/2499"));
+
+        // then
+        assertThat(report.getBatchLatencies()).as("Wrong number of batches").hasSize(3);
+        assertThat(wiremockServer.admin().getStubCount()).as("Wrong stub count").isEqualTo(2501);
+        assertThat(response.getBody()).as("Wrong response body").isEqualTo("Imported 2499");
+    }
+
+    @Test
+    void shouldStreamRequestJournal() throws Exception {
+        // given
+        TestHttpClient client = new TestHttpClient();
+        for (int i = 0; i < 20; i++) {
+            client.get(wiremockServer.getUrl("/hello"));
+        }
+
+        // when
+        final long count;
+        try (Stream<LoggedRequest> requests = wiremockServer.admin().requestJournal().limit(15).stream()) {
+            count = requests.filter(request -> "/hello".equals(request.getUrl())).count();
+        }
+
+        // then
+        assertThat(count).as("Wrong number of requests").isEqualTo(15);
+    }
+
+    @Test
+    void shouldVerifyRequestsInContainer() throws Exception {
+        // given
+        TestHttpClient client = new TestHttpClient();
+        for (int i = 0; i < 5; i++) {
+            client.get(wiremockServer.getUrl("/hello"));
+        }
+        client.get(wiremockServer.getUrl("/missing"));
+
+        // when/then
+        wiremockServer.verify(5, RequestPattern.get().withUrl("/hello"));
+        wiremockServer.verify(RequestPattern.anyMethod().withUrlPathMatching("/hel.*"));
+        assertThat(wiremockServer.admin().findUnmatchedRequests())
+                .as("Wrong unmatched requests")
+                .extracting(LoggedRequest::getUrl)
+                .containsExactly("/missing");
+        assertThatThrownBy(wiremockServer::verifyNoUnmatchedRequests)
+                .as("Wrong verification error")
+                .isInstanceOf(AssertionError.class);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wiremock.integrations.testcontainers.testsupport.http.HttpResponse;
+import org.wiremock.integrations.testcontainers.testsupport.http.TestHttpClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the bundled file transfer against the default per-file transfer, for growing numbers of stubs.
+ */
+class WireMockContainerBundledTransferTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WireMockContainerBundledTransferTest.class);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void copiesAllStubsInOneTransfer(int stubsCount) throws Exception {
+        try (WireMockContainer wmc = createContainer(stubsCount).withBundledFileTransfer(true)) {
+            // given
+            long bundleSize = new WireMockFilesBundle(wmc.collectContainerFiles()).getSize();
+
+            // when
+            wmc.start();
+
+            // then
+            StartupReport report = wmc.getStartupReport();
+            LOGGER.info("Bundled transfer of {} stubs: {}", stubsCount, report);
+            assertThat(report.getTransfers()).as("Wrong number of transfers").isEqualTo(1);
+            assertThat(report.getTransferredFiles()).as("Wrong number of transferred files").isEqualTo(stubsCount);
+            assertThat(report.getTransferredBytes()).as("Wrong number of transferred bytes").isEqualTo(bundleSize);
+            assertLastStubResponds(wmc, stubsCount);
+        }
+    }
+
+    @Test
+    void copiesEachStubSeparatelyByDefault() throws Exception {
+        try (WireMockContainer wmc = createContainer(100)) {
+            // given
+            long bundleSize = new WireMockFilesBundle(wmc.collectContainerFiles()).getSize();
+
+            // when
+            wmc.start();
+
+            // then
+            StartupReport report = wmc.getStartupReport();
+            LOGGER.info("Per-file transfer of 100 stubs: {}", report);
+            assertThat(report.getTransfers()).as("Wrong number of transfers").isEqualTo(100);
+            assertThat(report.getTransferredFiles()).as("Wrong number of transferred files").isEqualTo(100);
+            assertThat(report.getTransferredBytes()).as("Bundle must transfer the same bytes").isEqualTo(bundleSize);
+            assertLastStubResponds(wmc, 100);
+        }
+    }
+
+    private static WireMockContainer createContainer(int stubsCount) {
+        WireMockContainer wmc = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withStartupTimeout(Duration.ofSeconds(120))
+                .withRootDir(null);
+        for (int i = 0; i < stubsCount; i++) {
+            wmc.withMappingFromJSON("stub-" + i, stubJson(i));
+        }
+        return wmc;
+    }
+
+    private static void assertLastStubResponds(WireMockContainer wmc, int stubsCount) throws Exception {
+        HttpResponse response = new TestHttpClient().get(wmc.getUrl("/stub/" + (stubsCount - 1)));
+        assertThat(response.getBody())
+                .as("Wrong response body")
+                .isEqualTo("Stub " + (stubsCount - 1));
+    }
+
+    private static String stubJson(int index) {
+        return "{ \"request\": { \"method\": \"GET\", \"url\": \"/stub/" + index + "\" }, " +
+                "\"response\": { \"status\": 200, \"body\": \"Stub " + index + "\" } }";
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.Container;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class WireMockContainerClassDataSharingTest {
+
+    private String volume;
+
+    @Test
+    void shouldReuseArchiveOnNextStart() throws Exception {
+        // given
+        WireMockContainer recording = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE).withClassDataSharing(true);
+        recording.start();
+        volume = recording.getClassDataSharingVolume();
+        String javaVersion = recording.execInContainer("sh", "-c", ClassDataSharing.JAVA_VERSION_SCRIPT).getStdout();
+        recording.stop();
+        assumeTrue(ClassDataSharing.javaMajorVersion(javaVersion) >= ClassDataSharing.MINIMUM_JAVA_VERSION,
+                "The image runs Java " + javaVersion.trim() + ", the archive is not supported");
+
+        // when
+        WireMockContainer replaying = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE).withClassDataSharing(true);
+        replaying.start();
+        Container.ExecResult result = replaying.execInContainer("test", "-s", ClassDataSharing.ARCHIVE);
+        replaying.stop();
+
+        // then
+        assertThat(replaying.getClassDataSharingVolume()).as("Wrong volume").isEqualTo(volume);
+        assertThat(result.getExitCode()).as("Archive must be written on the first stop").isZero();
+    }
+
+    @AfterEach
+    public void removeVolume() {
+        if (volume != null) {
+            DockerClientFactory.instance().client().removeVolumeCmd(volume).exec();
+        }
+    }
+}
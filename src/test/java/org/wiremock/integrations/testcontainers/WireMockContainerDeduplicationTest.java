@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireMockContainerDeduplicationTest {
+
+    private static final String HELLO_JSON = "{ \"request\": { \"url\": \"/hello\" }, \"response\": { \"status\": 200 } }";
+
+    WireMockContainer wireMockContainer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+            .withRootDir(null);
+
+    @Test
+    void sameJsonWithoutNameIsAddedOnce() {
+        // given
+        wireMockContainer.withMappingFromJSON(HELLO_JSON);
+        wireMockContainer.withMappingFromJSON(HELLO_JSON);
+
+        // when
+        List<ContainerFile> files = wireMockContainer.collectContainerFiles();
+
+        // then
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getPath())
+                .isEqualTo("/home/wiremock/mappings/" + ContentDigest.of(HELLO_JSON) + ".json");
+    }
+
+    @Test
+    void sameJsonUnderDifferentNamesIsCopiedOnce() {
+        // given
+        wireMockContainer.withMappingFromJSON("first", HELLO_JSON);
+        wireMockContainer.withMappingFromJSON("second", HELLO_JSON);
+
+        // when
+        List<ContainerFile> files = wireMockContainer.collectContainerFiles();
+
+        // then
+        assertThat(files).hasSize(1);
+    }
+
+    @Test
+    void firstOfIdenticalStubsIsCopied() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            wireMockContainer.withMappingFromJSON("stub-" + i, HELLO_JSON);
+        }
+
+        // when
+        List<ContainerFile> files = wireMockContainer.collectContainerFiles();
+
+        // then
+        assertThat(files).extracting(ContainerFile::getPath).as("Wrong stub copied")
+                .containsExactly("/home/wiremock/mappings/stub-0.json");
+    }
+
+    @Test
+    void stubNameCollisionIsDetected() {
+        // given
+        wireMockContainer.withMappingFromJSON("hello", HELLO_JSON);
+
+        // when
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> wireMockContainer.withMappingFromJSON("hello", "{}"));
+
+        // then
+        assertThat(ex.getMessage())
+                .as("Wrong exception message")
+                .contains("Mapping stub 'hello' is already defined with a different content");
+    }
+
+    @Test
+    void fileNameCollisionIsDetected() {
+        // given
+        wireMockContainer.withFileFromResource("file.json", WireMockContainerRootDirTest.class, "file.json");
+
+        // when
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> wireMockContainer.withFileFromResource("file.json", WireMockContainerRootDirTest.class, "hello.json"));
+
+        // then
+        assertThat(ex.getMessage())
+                .as("Wrong exception message")
+                .contains("File 'file.json' is already defined with a different content");
+    }
+
+    @Test
+    void identicalFilesKeepAllNames() {
+        // given
+        wireMockContainer.withFileFromResource("file.json", WireMockContainerRootDirTest.class, "file.json");
+        wireMockContainer.withFileFromResource("copy.json", WireMockContainerRootDirTest.class, "file.json");
+
+        // when
+        List<ContainerFile> files = wireMockContainer.collectContainerFiles();
+
+        // then
+        assertThat(files.stream().map(ContainerFile::getPath).collect(Collectors.toList()))
+                .containsExactlyInAnyOrder("/home/wiremock/__files/file.json", "/home/wiremock/__files/copy.json");
+        assertThat(files.stream().map(ContainerFile::getDigest).distinct()).hasSize(1);
+    }
+}
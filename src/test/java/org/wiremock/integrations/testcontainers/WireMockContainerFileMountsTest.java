@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.Container;
+import org.wiremock.integrations.testcontainers.testsupport.http.HttpResponse;
+import org.wiremock.integrations.testcontainers.testsupport.http.TestHttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireMockContainerFileMountsTest {
+
+    WireMockContainer wiremockServer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+            .withMapping("hello-resource", WireMockContainerTest.class, "hello-world-resource.json")
+            .withFileFromResource("hello-world-resource-response.xml", WireMockContainerTest.class,
+                    "hello-world-resource-response.xml")
+            .withFileMounts(0);
+
+    @BeforeEach
+    public void setup() {
+        wiremockServer.start();
+        assertThat(wiremockServer.isRunning()).isTrue();
+    }
+
+    @Test
+    void helloWorldFromMountedFile() throws Exception {
+        // when
+        HttpResponse response = new TestHttpClient().get(wiremockServer.getUrl("/hello-from-file"));
+        Container.ExecResult write = wiremockServer.execInContainer("sh", "-c",
+                "echo > /home/wiremock/__files/hello-world-resource-response.xml");
+
+        // then
+        assertThat(wiremockServer.getFileMounts()).as("File must be mounted").hasSize(1);
+        assertThat(response.getBody()).as("Wrong response body").contains("Hello, world!");
+        assertThat(write.getExitCode()).as("Mounted file must be read-only").isNotZero();
+    }
+}
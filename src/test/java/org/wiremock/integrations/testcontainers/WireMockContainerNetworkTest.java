@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the requests from a peer container over the shared Docker network.
+ */
+class WireMockContainerNetworkTest {
+
+    Network network = Network.newNetwork();
+
+    WireMockContainer wiremockServer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+            .withNetwork(network)
+            .withNetworkAliases("wiremock")
+            .withMapping("hello", WireMockContainerTest.class, "hello-world.json");
+
+    GenericContainer<?> peer = new GenericContainer<>("curlimages/curl:8.11.1")
+            .withNetwork(network)
+            .withCommand("sleep", "infinity");
+
+    @BeforeEach
+    public void setup() {
+        wiremockServer.start();
+        peer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        peer.stop();
+        wiremockServer.stop();
+        network.close();
+    }
+
+    @Test
+    void shouldServePeerContainerOverInternalUrl() throws Exception {
+        // when
+        Container.ExecResult result = peer.execInContainer("curl", "-sf", wiremockServer.getInternalUrl(network, "/hello"));
+
+        // then
+        assertThat(result.getExitCode()).as("Request must succeed: " + result.getStderr()).isZero();
+        assertThat(result.getStdout()).as("Wrong response body").contains("Hello, world!");
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.wiremock.integrations.testcontainers.testsupport.http.HttpResponse;
+import org.wiremock.integrations.testcontainers.testsupport.http.TestHttpClient;
+
+import java.io.FileNotFoundException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireMockContainerPoolTest {
+
+    private static final String RUNTIME_STUB = "{ \"request\": { \"method\": \"GET\", \"url\": \"/runtime\" }, " +
+            "\"response\": { \"status\": 200, \"body\": \"runtime stub\" } }";
+
+    WireMockContainerPool pool = new WireMockContainerPool(1, () -> new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+            .withMapping("hello", WireMockContainerTest.class, "hello-world.json"));
+
+    @AfterEach
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void resetsContainerOnRelease() throws Exception {
+        // given
+        pool.start();
+        final WireMockContainer leased;
+        try (WireMockContainerPool.Lease lease = pool.acquire()) {
+            leased = lease.getContainer();
+            new TestHttpClient().post(leased.getUrl("/__admin/mappings"), RUNTIME_STUB);
+            assertThat(new TestHttpClient().get(leased.getUrl("/runtime")).getBody()).isEqualTo("runtime stub");
+        }
+
+        // when
+        try (WireMockContainerPool.Lease lease = pool.acquire()) {
+            WireMockContainer container = lease.getContainer();
+
+            // then
+            assertThat(container).isSameAs(leased);
+            Assertions.assertThrows(FileNotFoundException.class,
+                    () -> new TestHttpClient().get(container.getUrl("/runtime")));
+            HttpResponse response = new TestHttpClient().get(container.getUrl("/hello"));
+            assertThat(response.getBody())
+                    .as("Wrong response body")
+                    .contains("Hello, world!");
+        }
+        assertThat(pool.getStatistics().getAcquireLatency().getCount()).isEqualTo(2);
+        assertThat(pool.getStatistics().getResetLatency().getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void failsWhenNoContainerIsAvailable() {
+        // given
+        pool.start();
+        try (WireMockContainerPool.Lease lease = pool.acquire()) {
+            // when
+            IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class,
+                    () -> pool.acquire(Duration.ofMillis(100)));
+
+            // then
+            assertThat(ex.getMessage())
+                    .as("Wrong exception message")
+                    .contains("No container became available");
+        }
+    }
+
+    @Test
+    void failsForEmptyPool() {
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new WireMockContainerPool(0, () -> new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)));
+        assertThat(ex.getMessage())
+                .as("Wrong exception message")
+                .contains("Pool size must be positive");
+    }
+
+    @Test
+    void staysEmptyWhenStartFails() {
+        // given
+        AtomicInteger stops = new AtomicInteger();
+        WireMockContainerPool failingPool = new WireMockContainerPool(2, () -> new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE) {
+            @Override
+            public void start() {
+                throw new IllegalStateException("Cannot start");
+            }
+
+            @Override
+            public void stop() {
+                stops.incrementAndGet();
+            }
+        });
+
+        // when
+        IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, failingPool::start);
+        failingPool.close();
+
+        // then
+        assertThat(ex.getMessage()).as("Wrong exception message").isEqualTo("Cannot start");
+        assertThat(stops.get()).as("Failed containers must not stay in the pool").isEqualTo(2);
+        IllegalStateException acquireEx = Assertions.assertThrows(IllegalStateException.class,
+                () -> failingPool.acquire(Duration.ofMillis(100)));
+        assertThat(acquireEx.getMessage())
+                .as("Wrong exception message")
+                .contains("The pool is not started");
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.wiremock.integrations.testcontainers.testsupport.http.HttpResponse;
+import org.wiremock.integrations.testcontainers.testsupport.http.TestHttpClient;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireMockContainerPrebakedImageTest {
+
+    @Test
+    void reusesPrebakedImageForSameConfiguration() throws Exception {
+        final String firstImage;
+        try (WireMockContainer wmc = createContainer()) {
+            wmc.start();
+            firstImage = wmc.getDockerImageName();
+
+            // given
+            String url = wmc.getUrl("/hello");
+
+            // when
+            HttpResponse response = new TestHttpClient().get(url);
+
+            // then
+            assertThat(firstImage).startsWith(PrebakedImage.IMAGE_NAME + ":");
+            assertThat(response.getBody())
+                    .as("Wrong response body")
+                    .contains("file contents from direct mapping");
+        }
+
+        try (WireMockContainer wmc = createContainer()) {
+            wmc.start();
+
+            // then
+            assertThat(wmc.getDockerImageName()).isEqualTo(firstImage);
+        }
+    }
+
+    @Test
+    void keepsPrebakedImagesOfThisJvm() {
+        // given
+        final String image;
+        try (WireMockContainer wmc = createContainer()) {
+            wmc.start();
+            image = wmc.getDockerImageName();
+        }
+
+        // when
+        WireMockContainer.removePrebakedImages();
+
+        // then
+        assertThat(DockerClientFactory.instance().client().listImagesCmd().withLabelFilter(PrebakedImage.LABEL).exec())
+                .as("Image of this JVM must be kept")
+                .anySatisfy(listed -> assertThat(listed.getRepoTags()).contains(image));
+    }
+
+    private static WireMockContainer createContainer() {
+        return new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withPrebakedImage(true)
+                .withMappingFromResource("hello", WireMockContainerRootDirTest.class, "hello.json")
+                .withFileFromResource("file.json", WireMockContainerRootDirTest.class, "file.json")
+                .withRootDir(new File("src/test/resources/root-dir"));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.wiremock.integrations.testcontainers.testsupport.http.TestHttpClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireMockContainerRequestEventsTest {
+
+    WireMockContainer wiremockServer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+            .withMapping("hello", WireMockContainerTest.class, "hello-world.json")
+            .withRequestEvents();
+
+    @BeforeEach
+    public void setup() {
+        wiremockServer.start();
+        assertThat(wiremockServer.isRunning()).isTrue();
+    }
+
+    @Test
+    void shouldPushServedRequests() throws Exception {
+        // given
+        Thread client = new Thread(() -> {
+            try {
+                new TestHttpClient().get(wiremockServer.getUrl("/hello"));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        // when
+        client.start();
+        RequestEvent event = wiremockServer.getRequestEvents()
+                .awaitEvent(e -> e.getUrl().equals("/hello"), Duration.ofSeconds(10));
+
+        // then
+        assertThat(event.getMethod()).as("Wrong method").isEqualTo("GET");
+    }
+}
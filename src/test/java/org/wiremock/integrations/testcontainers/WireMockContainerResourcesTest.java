@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireMockContainerResourcesTest {
+
+    WireMockContainer wiremockServer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+            .withJvmProfile(new JvmProfile().initialHeap("128m").maxHeap("256m").garbageCollector(JvmProfile.GarbageCollector.SERIAL))
+            .withResources(new ContainerResources().cpus(1).memoryLimit("512m"));
+
+    @BeforeEach
+    public void setup() {
+        wiremockServer.start();
+        assertThat(wiremockServer.isRunning()).isTrue();
+    }
+
+    @Test
+    void shouldReportEffectiveResources() {
+        // when
+        EffectiveResources resources = wiremockServer.getEffectiveResources();
+
+        // then
+        assertThat(resources.getMemoryLimitBytes()).as("Wrong memory limit").isEqualTo(512L * 1024 * 1024);
+        assertThat(resources.getCpus()).as("Wrong CPU quota").isEqualTo(1.0);
+        assertThat(resources.getMaxHeapBytes()).as("Wrong max heap").isEqualTo(256L * 1024 * 1024);
+        assertThat(resources.getGarbageCollector()).as("Wrong GC").contains(JvmProfile.GarbageCollector.SERIAL);
+    }
+}
@@ -86,4 +86,18 @@ class WireMockContainerTest {
         assertThat(wiremockServer.getExposedPorts())
                 .contains(WIREMOCK_DEFAULT_PORT, ADDITIONAL_MAPPED_PORT);
     }
+
+    @Test
+    void startupReportIsAvailable() {
+        // when
+        StartupReport report = wiremockServer.getStartupReport();
+
+        // then
+        assertThat(report.getTransferredFiles())
+                .as("Wrong number of transferred files")
+                .isEqualTo(3);
+        assertThat(report.getReadiness())
+                .as("Wrong readiness time")
+                .isPositive();
+    }
 }
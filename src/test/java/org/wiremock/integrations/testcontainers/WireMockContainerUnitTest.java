@@ -3,6 +3,7 @@ package org.wiremock.integrations.testcontainers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.Network;
 import org.testcontainers.utility.DockerImageName;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -73,4 +74,77 @@ public class WireMockContainerUnitTest {
                 .contains("is a compatible substitute for '" + WireMockContainer.OFFICIAL_IMAGE_NAME + "'");
     }
 
+    @Test
+    public void shouldWaitForUploadedMappings() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withMappingFromJSON("first", "{\"request\":{\"url\":\"/first\"}}")
+                .withMappingFromJSON("second", "{\"request\":{\"url\":\"/second\"}}")
+                .withLoadedMappingsCheck(true);
+
+        // when
+        container.configure();
+
+        // then
+        assertThat(container.getReadinessWaiter().getExpectedMappings())
+                .as("Wrong number of expected mappings")
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotWaitForMappingsByDefault() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withMappingFromJSON("first", "{\"request\":{\"url\":\"/first\"}}");
+
+        // when
+        container.configure();
+
+        // then
+        assertThat(container.getReadinessWaiter().getExpectedMappings())
+                .as("Wrong number of expected mappings")
+                .isZero();
+    }
+
+    @Test
+    public void shouldNotRepeatCliArgsOnReconfigure() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withCliArg("--verbose")
+                .withOptions(new WireMockOptions().containerThreads(20));
+        container.configure();
+        String[] firstCommand = container.getCommandParts();
+
+        // when
+        container.configure();
+
+        // then
+        assertThat(container.getCommandParts())
+                .as("Wrong command after reconfigure")
+                .containsExactly(firstCommand);
+        assertThat(String.join(" ", firstCommand))
+                .as("Wrong command")
+                .contains("--container-threads=20")
+                .contains("--disable-banner");
+    }
+
+    @Test
+    public void shouldUseLastNetworkAliasForInternalUrl() {
+        // given
+        Network network = Network.newNetwork();
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withNetwork(network)
+                .withNetworkAliases("wiremock");
+
+        // when/then
+        assertThat(container.getInternalUrl(network, "hello"))
+                .as("Wrong internal URL")
+                .isEqualTo("http://wiremock:8080/hello");
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> container.getInternalUrl(Network.newNetwork()));
+        assertThat(ex.getMessage())
+                .as("Wrong exception message")
+                .contains("not attached to the network");
+    }
 }
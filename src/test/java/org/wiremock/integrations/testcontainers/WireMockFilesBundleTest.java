@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireMockFilesBundleTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void allEntriesAreWrittenToOneArchive() throws Exception {
+        // given
+        WireMockContainer wireMockContainer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withMappingFromJSON("first", "{\"id\": 1}")
+                .withMappingFromJSON("second", "{\"id\": 2}")
+                .withFileFromResource("file.json", WireMockContainerRootDirTest.class, "file.json");
+        WireMockFilesBundle bundle = new WireMockFilesBundle(wireMockContainer.collectContainerFiles());
+
+        // when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes)) {
+            bundle.transferTo(tar, "/");
+        }
+
+        // then
+        List<String> names = new ArrayList<>();
+        long size = 0;
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                names.add(entry.getName());
+                size += entry.getSize();
+            }
+        }
+        assertThat(names).containsExactly(
+                "home/wiremock/mappings/first.json",
+                "home/wiremock/mappings/second.json",
+                "home/wiremock/__files/file.json");
+        assertThat(size).isEqualTo(bundle.getSize());
+    }
+
+    @Test
+    void identicalFilesAreWrittenAsHardLinks() throws Exception {
+        // given
+        WireMockContainer wireMockContainer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withFileFromResource("file.json", WireMockContainerRootDirTest.class, "file.json")
+                .withFileFromResource("copy.json", WireMockContainerRootDirTest.class, "file.json");
+        WireMockFilesBundle bundle = new WireMockFilesBundle(wireMockContainer.collectContainerFiles());
+
+        // when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes)) {
+            bundle.transferTo(tar, "/");
+        }
+
+        // then
+        List<TarArchiveEntry> entries = new ArrayList<>();
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                entries.add(entry);
+            }
+        }
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(0).isLink()).isFalse();
+        assertThat(entries.get(1).isLink()).isTrue();
+        assertThat(entries.get(1).getLinkName()).isEqualTo(entries.get(0).getName());
+    }
+
+    @Test
+    void identicalDirectoriesAreNotWrittenAsHardLinks() throws Exception {
+        // given
+        for (String dir : new String[]{"first", "second"}) {
+            Files.createDirectories(tempDir.resolve(dir));
+            Files.write(tempDir.resolve(dir).resolve("file.json"), "{}".getBytes(StandardCharsets.UTF_8));
+        }
+        WireMockContainer wireMockContainer = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withRootDir(null)
+                .withFile(tempDir.resolve("first").toFile())
+                .withFile(tempDir.resolve("second").toFile());
+        WireMockFilesBundle bundle = new WireMockFilesBundle(wireMockContainer.collectContainerFiles());
+
+        // when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes)) {
+            bundle.transferTo(tar, "/");
+        }
+
+        // then
+        List<String> files = new ArrayList<>();
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                assertThat(entry.isLink()).as("Wrong link entry " + entry.getName()).isFalse();
+                if (entry.isFile()) {
+                    files.add(entry.getName());
+                }
+            }
+        }
+        assertThat(files).as("Wrong files").containsExactlyInAnyOrder(
+                "home/wiremock/__files/first/file.json",
+                "home/wiremock/__files/second/file.json");
+    }
+}
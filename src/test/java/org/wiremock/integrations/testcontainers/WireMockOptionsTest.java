@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WireMockOptionsTest {
+
+    @Test
+    void shouldRenderCliArgs() {
+        // given
+        WireMockOptions options = new WireMockOptions()
+                .containerThreads(200)
+                .jettyAcceptorThreads(4)
+                .jettyAcceptQueueSize(1000)
+                .asyncResponseThreads(50)
+                .maxRequestJournalEntries(10000)
+                .disableGzip()
+                .disableRequestLogging();
+
+        // when/then
+        assertThat(options.toCliArgs())
+                .as("Wrong CLI arguments")
+                .containsExactly("--container-threads=200", "--jetty-acceptor-threads=4", "--jetty-accept-queue-size=1000",
+                        "--async-response-enabled=true", "--async-response-threads=50",
+                        "--max-request-journal-entries=10000", "--disable-gzip", "--disable-request-logging");
+    }
+
+    @Test
+    void shouldAddOptionsToCommand() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withOptions(new WireMockOptions().containerThreads(100))
+                .withOptions(new WireMockOptions().containerThreads(200).noRequestJournal());
+
+        // when
+        container.configure();
+
+        // then
+        assertThat(container.getCommandParts())
+                .as("Wrong command")
+                .contains("--container-threads=200", "--no-request-journal")
+                .doesNotContain("--container-threads=100");
+    }
+
+    @Test
+    void shouldRejectOptionUnsupportedByImage() {
+        // given
+        WireMockContainer container = new WireMockContainer(
+                new DockerImageName(WireMockContainer.OFFICIAL_IMAGE_NAME, "2.20.0"));
+
+        // when/then
+        assertThatThrownBy(() -> container.withOptions(new WireMockOptions().disableRequestLogging()))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--disable-request-logging requires WireMock >= 2.24.0");
+    }
+
+    @Test
+    void shouldRejectDisabledRequestLoggingWithRequestEvents() {
+        // given
+        WireMockContainer withEvents = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE).withRequestEvents();
+        WireMockContainer withoutLogging = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withOptions(new WireMockOptions().disableRequestLogging());
+
+        // when/then
+        assertThatThrownBy(() -> withEvents.withOptions(new WireMockOptions().disableRequestLogging()))
+                .as("Wrong exception for options set after the events")
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--disable-request-logging");
+        assertThatThrownBy(withoutLogging::withRequestEvents)
+                .as("Wrong exception for events enabled after the options")
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--disable-request-logging");
+    }
+
+    @Test
+    void shouldRejectConflictingJournalOptions() {
+        // given
+        WireMockContainer container = new WireMockContainer(TestConfig.WIREMOCK_DEFAULT_IMAGE)
+                .withOptions(new WireMockOptions().noRequestJournal());
+
+        // when/then
+        assertThatThrownBy(() -> container.withOptions(new WireMockOptions().maxRequestJournalEntries(10)))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WireMockOptions().containerThreads(0))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
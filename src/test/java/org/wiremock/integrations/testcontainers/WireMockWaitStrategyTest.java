@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 WireMock Inc, Oleg Nenashev and all project contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.integrations.testcontainers;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the polling fallback of {@link WireMockWaitStrategy} against a fake admin API, without Docker.
+ */
+class WireMockWaitStrategyTest {
+
+    private final AtomicInteger healthProbes = new AtomicInteger();
+    private final AtomicInteger mappingsProbes = new AtomicInteger();
+    private volatile int loadedMappings = Integer.MAX_VALUE;
+    private HttpServer server;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // Healthy after the third probe
+        server.createContext("/__admin/health", exchange ->
+                respond(exchange, healthProbes.incrementAndGet() < 3 ? 503 : 200, "{}"));
+        // One more mapping is reported on each probe, up to the loaded ones
+        server.createContext("/__admin/mappings", exchange ->
+                respond(exchange, 200, "{\"mappings\":[],\"meta\":{\"total\":"
+                        + Math.min(mappingsProbes.incrementAndGet(), loadedMappings) + "}}"));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldPollUntilHealthy() {
+        // given
+        WireMockWaitStrategy strategy = new WireMockWaitStrategy(8080)
+                .withPollInterval(Duration.ofMillis(1), Duration.ofMillis(10));
+
+        // when
+        strategy.waitUntilReady(new FakeTarget(server.getAddress().getPort()));
+
+        // then
+        assertThat(healthProbes.get()).as("Wrong number of health probes").isEqualTo(3);
+        assertThat(mappingsProbes.get()).as("Mappings must not be checked").isZero();
+    }
+
+    @Test
+    void shouldWaitForExpectedMappings() {
+        // given
+        WireMockWaitStrategy strategy = new WireMockWaitStrategy(8080)
+                .withPollInterval(Duration.ofMillis(1), Duration.ofMillis(10))
+                .withExpectedMappings(5);
+
+        // when
+        strategy.waitUntilReady(new FakeTarget(server.getAddress().getPort()));
+
+        // then
+        assertThat(mappingsProbes.get()).as("Wrong number of mappings probes").isEqualTo(5);
+    }
+
+    @Test
+    void shouldFailWhenMappingsStopLoading() {
+        // given
+        loadedMappings = 2;
+        WireMockWaitStrategy strategy = new WireMockWaitStrategy(8080)
+                .withPollInterval(Duration.ofMillis(1), Duration.ofMillis(10))
+                .withExpectedMappings(5);
+        strategy.withStartupTimeout(Duration.ofMinutes(1));
+
+        // when/then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> strategy.waitUntilReady(new FakeTarget(server.getAddress().getPort())))
+                .as("Wrong exception")
+                .isInstanceOf(ContainerLaunchException.class)
+                .hasMessageContaining("Expected 5 mappings, WireMock loaded 2");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).as("Must not wait for the timeout")
+                .isLessThan(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void shouldTimeOut() {
+        // given
+        WireMockWaitStrategy strategy = new WireMockWaitStrategy(8080)
+                .withHealthCheckPath("/__admin/missing")
+                .withPollInterval(Duration.ofMillis(1), Duration.ofMillis(10));
+        strategy.withStartupTimeout(Duration.ofMillis(200));
+
+        // when/then
+        assertThatThrownBy(() -> strategy.waitUntilReady(new FakeTarget(server.getAddress().getPort())))
+                .as("Wrong exception")
+                .isInstanceOf(ContainerLaunchException.class)
+                .hasMessageContaining("/__admin/missing");
+    }
+
+    @Test
+    void shouldRejectInvalidPollInterval() {
+        assertThatThrownBy(() -> new WireMockWaitStrategy(8080).withPollInterval(Duration.ofMillis(10), Duration.ofMillis(1)))
+                .as("Wrong exception")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    /**
+     * Target without a Docker container, the log cannot be followed.
+     */
+    private static final class FakeTarget implements WaitStrategyTarget {
+        private final int mappedPort;
+
+        FakeTarget(int mappedPort) {
+            this.mappedPort = mappedPort;
+        }
+
+        @Override
+        public String getHost() {
+            return "localhost";
+        }
+
+        @Override
+        public Integer getMappedPort(int originalPort) {
+            return mappedPort;
+        }
+
+        @Override
+        public List<Integer> getExposedPorts() {
+            return Collections.singletonList(8080);
+        }
+
+        @Override
+        public String getContainerId() {
+            return "fake";
+        }
+
+        @Override
+        public DockerClient getDockerClient() {
+            throw new IllegalStateException("Docker is not available");
+        }
+
+        @Override
+        public InspectContainerResponse getContainerInfo() {
+            throw new IllegalStateException("Docker is not available");
+        }
+    }
+}